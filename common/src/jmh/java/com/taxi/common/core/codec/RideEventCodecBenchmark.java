@@ -0,0 +1,47 @@
+package com.taxi.common.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taxi.common.core.dto.RideAcceptDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 운행 수락 이벤트 형식별 변환 시간 (형식별 크기는 RideEventCodecTest 에서 확인)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RideEventCodecBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final RideEventDeserializer deserializer = new RideEventDeserializer();
+
+    private RideAcceptDto dto;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        dto = new RideAcceptDto(1024L, 11L, "010-1234-5678", 22L, "김기사", "010-9876-5432",
+                "소나타", "12가3456", 4, 1532, "서울특별시 강남구 강남대로 396", "서울특별시 중구 세종대로 110",
+                "ACCEPT", LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000),
+                "passenger0001@email.com", "driver0001@email.com");
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return "json".equals(format) ? objectMapper.writeValueAsBytes(dto) : RideEventCodec.encode(dto);
+    }
+
+    // 소비 측 경로 (형식 판별 포함)
+    @Benchmark
+    public Object decode() {
+        return deserializer.deserialize("ride-accept", encoded);
+    }
+}
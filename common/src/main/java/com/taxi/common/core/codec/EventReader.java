@@ -0,0 +1,95 @@
+package com.taxi.common.core.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// EventWriter 로 기록한 필드를 순서대로 읽음
+// 이전 버전이 기록한 이벤트라 필드 수가 적으면 남은 필드는 null, 다음 버전이 뒤에 추가한 필드는 읽지 않고 무시
+class EventReader {
+
+    private final byte[] data;
+    private int position;
+    private int fieldsLeft;
+
+    EventReader(byte[] data, int offset, int fieldCount) {
+        this.data = data;
+        this.position = offset;
+        this.fieldsLeft = fieldCount;
+    }
+
+    Long readLong() {
+        if (!nextField() || data[position++] == 0) {
+            return null;
+        }
+
+        return unZigZag(readVarLong());
+    }
+
+    Integer readInt() {
+        Long value = readLong();
+
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    String readString() {
+        if (!nextField()) {
+            return null;
+        }
+
+        int length = Math.toIntExact(readVarLong()) - 1;
+
+        if (length < 0) {
+            return null;
+        }
+
+        if (length > data.length - position) {
+            throw new IllegalArgumentException("문자열 길이가 올바르지 않습니다.");
+        }
+
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+
+        return value;
+    }
+
+    LocalDateTime readTime() {
+        if (!nextField() || data[position++] == 0) {
+            return null;
+        }
+
+        long seconds = unZigZag(readVarLong());
+        int nanos = Math.toIntExact(readVarLong());
+
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private boolean nextField() {
+        if (fieldsLeft == 0) {
+            return false;
+        }
+
+        fieldsLeft--;
+
+        return true;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[position++];
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("숫자 형식이 올바르지 않습니다.");
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.taxi.common.core.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 필드 값을 순서대로 기록 (숫자는 가변 길이, null 은 1바이트)
+class EventWriter {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+
+    EventWriter(byte magic, byte version, byte type, int fieldCount) {
+        out.write(magic);
+        out.write(version);
+        out.write(type);
+        out.write(fieldCount);
+    }
+
+    EventWriter writeLong(Long value) {
+        if (value == null) {
+            out.write(0);
+        } else {
+            out.write(1);
+            writeVarLong(zigZag(value));
+        }
+
+        return this;
+    }
+
+    EventWriter writeInt(Integer value) {
+        return writeLong(value == null ? null : value.longValue());
+    }
+
+    // 길이 + 1 (0이면 null)
+    EventWriter writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            writeVarLong(bytes.length + 1L);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        return this;
+    }
+
+    // 초 (UTC 기준 epoch) + 나노초
+    EventWriter writeTime(LocalDateTime value) {
+        if (value == null) {
+            out.write(0);
+        } else {
+            out.write(1);
+            writeVarLong(zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarLong(value.getNano());
+        }
+
+        return this;
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        out.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
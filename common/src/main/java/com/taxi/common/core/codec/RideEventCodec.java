@@ -0,0 +1,235 @@
+package com.taxi.common.core.codec;
+
+import com.taxi.common.core.dto.DriveCompleteDto;
+import com.taxi.common.core.dto.RideAcceptDto;
+import com.taxi.common.core.dto.RideCancelDto;
+import com.taxi.common.core.dto.RideStartDto;
+
+// 운행 이벤트(수락, 취소, 시작, 완료) 바이너리 포맷
+// [MAGIC][VERSION][이벤트 종류][필드 수][필드...]
+// 필드는 선언 순서대로 기록하며, 새 필드는 항상 맨 뒤에 추가하고 필드 수를 늘린다 (중간 삭제 / 순서 변경 금지)
+// 읽는 쪽은 필드 수만큼만 읽으므로 이전 / 다음 버전이 섞여 배포되어도 서로 읽을 수 있음
+public final class RideEventCodec {
+
+    public static final byte MAGIC = (byte) 0xE7; // JSON('{')과 구분
+    public static final byte VERSION = 1;          // 필드 추가로 하위 호환이 깨질 때만 올림
+
+    static final byte TYPE_ACCEPT = 1;
+    static final byte TYPE_CANCEL = 2;
+    static final byte TYPE_START = 3;
+    static final byte TYPE_COMPLETE = 4;
+
+    private static final int HEADER_SIZE = 4;
+
+    private static final int ACCEPT_FIELDS = 16;
+    private static final int CANCEL_FIELDS = 7;
+    private static final int START_FIELDS = 14;
+    private static final int COMPLETE_FIELDS = 15;
+
+    private RideEventCodec() {
+    }
+
+    // 바이너리 포맷 여부 (아니면 JSON)
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object event) {
+        if (event instanceof RideAcceptDto dto) {
+            return encodeAccept(dto);
+        }
+
+        if (event instanceof RideCancelDto dto) {
+            return encodeCancel(dto);
+        }
+
+        if (event instanceof RideStartDto dto) {
+            return encodeStart(dto);
+        }
+
+        if (event instanceof DriveCompleteDto dto) {
+            return encodeComplete(dto);
+        }
+
+        throw new IllegalArgumentException("지원하지 않는 이벤트입니다. : " + (event == null ? null : event.getClass().getName()));
+    }
+
+    public static Object decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("바이너리 이벤트가 아닙니다.");
+        }
+
+        if (data[1] > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 버전입니다. : " + data[1]);
+        }
+
+        EventReader reader = new EventReader(data, HEADER_SIZE, data[3] & 0xFF);
+
+        try {
+            return switch (data[2]) {
+                case TYPE_ACCEPT -> decodeAccept(reader);
+                case TYPE_CANCEL -> decodeCancel(reader);
+                case TYPE_START -> decodeStart(reader);
+                case TYPE_COMPLETE -> decodeComplete(reader);
+                default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류입니다. : " + data[2]);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("이벤트 데이터가 잘렸습니다.", e);
+        }
+    }
+
+    private static byte[] encodeAccept(RideAcceptDto dto) {
+        return new EventWriter(MAGIC, VERSION, TYPE_ACCEPT, ACCEPT_FIELDS)
+                .writeLong(dto.getRideId())
+                .writeLong(dto.getPassengerUserId())
+                .writeString(dto.getPassengerPhoneNumber())
+                .writeLong(dto.getDriverUserId())
+                .writeString(dto.getDriverName())
+                .writeString(dto.getDriverPhoneNumber())
+                .writeString(dto.getCarName())
+                .writeString(dto.getCarNumber())
+                .writeInt(dto.getCapacity())
+                .writeInt(dto.getTotalRides())
+                .writeString(dto.getStartLocation())
+                .writeString(dto.getEndLocation())
+                .writeString(dto.getRideStatus())
+                .writeTime(dto.getAcceptTime())
+                .writeString(dto.getPassengerEmail())
+                .writeString(dto.getDriverEmail())
+                .toByteArray();
+    }
+
+    private static RideAcceptDto decodeAccept(EventReader reader) {
+        RideAcceptDto dto = new RideAcceptDto();
+
+        dto.setRideId(reader.readLong());
+        dto.setPassengerUserId(reader.readLong());
+        dto.setPassengerPhoneNumber(reader.readString());
+        dto.setDriverUserId(reader.readLong());
+        dto.setDriverName(reader.readString());
+        dto.setDriverPhoneNumber(reader.readString());
+        dto.setCarName(reader.readString());
+        dto.setCarNumber(reader.readString());
+
+        Integer capacity = reader.readInt();
+        dto.setCapacity(capacity == null ? 0 : capacity);
+
+        dto.setTotalRides(reader.readInt());
+        dto.setStartLocation(reader.readString());
+        dto.setEndLocation(reader.readString());
+        dto.setRideStatus(reader.readString());
+        dto.setAcceptTime(reader.readTime());
+        dto.setPassengerEmail(reader.readString());
+        dto.setDriverEmail(reader.readString());
+
+        return dto;
+    }
+
+    private static byte[] encodeCancel(RideCancelDto dto) {
+        return new EventWriter(MAGIC, VERSION, TYPE_CANCEL, CANCEL_FIELDS)
+                .writeLong(dto.getRideId())
+                .writeLong(dto.getPassengerUserId())
+                .writeLong(dto.getDriverUserId())
+                .writeTime(dto.getCancelTime())
+                .writeString(dto.getRideStatus())
+                .writeString(dto.getPassengerEmail())
+                .writeString(dto.getDriverEmail())
+                .toByteArray();
+    }
+
+    private static RideCancelDto decodeCancel(EventReader reader) {
+        RideCancelDto dto = new RideCancelDto();
+
+        dto.setRideId(reader.readLong());
+        dto.setPassengerUserId(reader.readLong());
+        dto.setDriverUserId(reader.readLong());
+        dto.setCancelTime(reader.readTime());
+        dto.setRideStatus(reader.readString());
+        dto.setPassengerEmail(reader.readString());
+        dto.setDriverEmail(reader.readString());
+
+        return dto;
+    }
+
+    private static byte[] encodeStart(RideStartDto dto) {
+        return new EventWriter(MAGIC, VERSION, TYPE_START, START_FIELDS)
+                .writeLong(dto.getRideId())
+                .writeLong(dto.getPassengerUserId())
+                .writeString(dto.getPassengerPhoneNumber())
+                .writeLong(dto.getDriverUserId())
+                .writeString(dto.getDriverName())
+                .writeString(dto.getDriverPhoneNumber())
+                .writeString(dto.getCarName())
+                .writeString(dto.getCarNumber())
+                .writeString(dto.getStartLocation())
+                .writeString(dto.getEndLocation())
+                .writeString(dto.getRideStatus())
+                .writeTime(dto.getStartTime())
+                .writeString(dto.getPassengerEmail())
+                .writeString(dto.getDriverEmail())
+                .toByteArray();
+    }
+
+    private static RideStartDto decodeStart(EventReader reader) {
+        RideStartDto dto = new RideStartDto();
+
+        dto.setRideId(reader.readLong());
+        dto.setPassengerUserId(reader.readLong());
+        dto.setPassengerPhoneNumber(reader.readString());
+        dto.setDriverUserId(reader.readLong());
+        dto.setDriverName(reader.readString());
+        dto.setDriverPhoneNumber(reader.readString());
+        dto.setCarName(reader.readString());
+        dto.setCarNumber(reader.readString());
+        dto.setStartLocation(reader.readString());
+        dto.setEndLocation(reader.readString());
+        dto.setRideStatus(reader.readString());
+        dto.setStartTime(reader.readTime());
+        dto.setPassengerEmail(reader.readString());
+        dto.setDriverEmail(reader.readString());
+
+        return dto;
+    }
+
+    private static byte[] encodeComplete(DriveCompleteDto dto) {
+        return new EventWriter(MAGIC, VERSION, TYPE_COMPLETE, COMPLETE_FIELDS)
+                .writeLong(dto.getRideId())
+                .writeLong(dto.getPassengerUserId())
+                .writeString(dto.getPassengerPhoneNumber())
+                .writeLong(dto.getDriverUserId())
+                .writeString(dto.getDriverName())
+                .writeString(dto.getDriverPhoneNumber())
+                .writeString(dto.getCarName())
+                .writeString(dto.getCarNumber())
+                .writeInt(dto.getFare())
+                .writeString(dto.getStartLocation())
+                .writeString(dto.getEndLocation())
+                .writeString(dto.getRideStatus())
+                .writeTime(dto.getCompleteTime())
+                .writeString(dto.getPassengerEmail())
+                .writeString(dto.getDriverEmail())
+                .toByteArray();
+    }
+
+    private static DriveCompleteDto decodeComplete(EventReader reader) {
+        DriveCompleteDto dto = new DriveCompleteDto();
+
+        dto.setRideId(reader.readLong());
+        dto.setPassengerUserId(reader.readLong());
+        dto.setPassengerPhoneNumber(reader.readString());
+        dto.setDriverUserId(reader.readLong());
+        dto.setDriverName(reader.readString());
+        dto.setDriverPhoneNumber(reader.readString());
+        dto.setCarName(reader.readString());
+        dto.setCarNumber(reader.readString());
+        dto.setFare(reader.readInt());
+        dto.setStartLocation(reader.readString());
+        dto.setEndLocation(reader.readString());
+        dto.setRideStatus(reader.readString());
+        dto.setCompleteTime(reader.readTime());
+        dto.setPassengerEmail(reader.readString());
+        dto.setDriverEmail(reader.readString());
+
+        return dto;
+    }
+}
@@ -0,0 +1,54 @@
+package com.taxi.common.core.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taxi.common.core.dto.DriveCompleteDto;
+import com.taxi.common.core.dto.RideAcceptDto;
+import com.taxi.common.core.dto.RideCancelDto;
+import com.taxi.common.core.dto.RideStartDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 바이너리 -> 운행 이벤트 DTO
+// 바이너리 전환 전 / 전환 중에 발행된 JSON 메시지도 토픽 기준으로 읽음
+public class RideEventDeserializer implements Deserializer<Object> {
+
+    private static final Map<String, Class<?>> JSON_TYPES = Map.of(
+            "ride-accept", RideAcceptDto.class,
+            "ride-cancel", RideCancelDto.class,
+            "ride-start", RideStartDto.class,
+            "ride-complete", DriveCompleteDto.class
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            if (RideEventCodec.isBinary(data)) {
+                return RideEventCodec.decode(data);
+            }
+
+            Class<?> type = JSON_TYPES.get(topic);
+
+            if (type == null) {
+                throw new SerializationException("운행 이벤트 토픽이 아닙니다. : " + topic);
+            }
+
+            return objectMapper.readValue(data, type);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new SerializationException("운행 이벤트 역직렬화 실패 : " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taxi.common.core.codec;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+// 운행 이벤트 DTO -> 바이너리 (RideEventCodec)
+public class RideEventSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return data == null ? null : RideEventCodec.encode(data);
+    }
+}
@@ -0,0 +1,26 @@
+package com.taxi.common.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RideOfferDto {
+
+    private String passengerEmail;    // 승객 이메일 (호출 수락 시 사용)
+    private String driverEmail;       // 제안받을 기사 이메일
+
+    private String startLocation;     // 출발지
+    private String endLocation;       // 목적지
+    private Double distanceKm;        // 기사 위치에서 출발지까지의 거리
+
+    private LocalDateTime offerTime;  // 제안 시간
+    private LocalDateTime expireTime; // 제안 만료 시간
+
+}
@@ -0,0 +1,21 @@
+package com.taxi.common.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 회원 정보 변경 이벤트 (user-changed), 다른 서비스의 회원 정보 캐시 삭제 및 진행 중인 운행의 참여자 정보 갱신용
+// 변경된 회원 정보를 함께 보내 받는 쪽이 user-service 를 다시 조회하지 않도록 (새 필드는 맨 뒤에 추가)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedDto {
+
+    private Long userId;
+    private String email;
+    private String name;
+    private String phoneNumber;
+
+}
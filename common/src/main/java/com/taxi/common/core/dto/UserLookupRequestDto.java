@@ -0,0 +1,21 @@
+package com.taxi.common.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 회원 정보 일괄 조회 요청 (id, 이메일 중 필요한 쪽만 채움)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLookupRequestDto {
+
+    private List<Long> ids = new ArrayList<>();
+    private List<String> emails = new ArrayList<>();
+
+}
@@ -44,6 +44,12 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 서비스 간 내부 API는 회원 토큰 대신 서비스 토큰으로 인증 (ServiceTokenFilter)
+        if (request.getRequestURI().startsWith(ServiceTokenFilter.PATH_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String accessToken = request.getHeader(HttpHeaders.AUTHORIZATION).substring(7);
 
         String email = jwtTokenUtil.extractEmail(accessToken);
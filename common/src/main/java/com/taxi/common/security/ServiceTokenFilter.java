@@ -0,0 +1,64 @@
+package com.taxi.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// 서비스 간 내부 API(/internal/**) 인증
+// 회원 토큰(JWT)과 별도로 서비스끼리 공유하는 서비스 토큰(service.token)을 X-Service-Token 헤더로 받아 확인
+// 일치하면 ROLE_SERVICE 권한으로 인증, 없거나 다르면 401
+@Slf4j
+public class ServiceTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Service-Token";
+    public static final String PATH_PREFIX = "/internal/";
+    public static final String ROLE = "ROLE_SERVICE";
+
+    private final byte[] serviceToken;
+
+    public ServiceTokenFilter(String serviceToken) {
+        if (serviceToken == null || serviceToken.isBlank()) {
+            throw new IllegalStateException("service.token 설정이 없습니다.");
+        }
+
+        this.serviceToken = serviceToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+
+        if (token == null || !MessageDigest.isEqual(serviceToken, token.getBytes(StandardCharsets.UTF_8))) {
+            log.error(">>> 유효하지 않은 서비스 토큰 / Path : {} <<<", request.getRequestURI());
+
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "service",
+                null,
+                List.of(new SimpleGrantedAuthority(ROLE))
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,116 @@
+package com.taxi.common.core.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taxi.common.core.dto.DriveCompleteDto;
+import com.taxi.common.core.dto.RideAcceptDto;
+import com.taxi.common.core.dto.RideCancelDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RideEventCodecTest {
+
+    private final RideEventSerializer serializer = new RideEventSerializer();
+    private final RideEventDeserializer deserializer = new RideEventDeserializer();
+
+    private RideAcceptDto acceptDto() {
+        return new RideAcceptDto(1L, 11L, "010-1234-5678", 22L, "김기사", "010-9876-5432",
+                "소나타", "12가3456", 4, null, "서울역", "강남역", "ACCEPT",
+                LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000), "passenger@email.com", "driver@email.com");
+    }
+
+    @Test
+    void 수락_이벤트_바이너리_변환_테스트() {
+        byte[] encoded = serializer.serialize("ride-accept", acceptDto());
+
+        RideAcceptDto decoded = (RideAcceptDto) deserializer.deserialize("ride-accept", encoded);
+
+        assertThat(RideEventCodec.isBinary(encoded)).isTrue();
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(acceptDto());
+        assertThat(decoded.getTotalRides()).isNull();
+    }
+
+    @Test
+    void 완료_이벤트_바이너리_변환_테스트() {
+        DriveCompleteDto dto = new DriveCompleteDto(3L, 11L, "010-1234-5678", 22L, "김기사", "010-9876-5432",
+                "소나타", "12가3456", -1500, "서울역", "강남역", "COMPLETE",
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59), "passenger@email.com", "driver@email.com");
+
+        DriveCompleteDto decoded = (DriveCompleteDto) RideEventCodec.decode(RideEventCodec.encode(dto));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(dto);
+    }
+
+    @Test
+    void 형식별_크기_테스트() throws Exception {
+        // RideEventCodecBenchmark 와 같은 수락 이벤트
+        RideAcceptDto dto = new RideAcceptDto(1024L, 11L, "010-1234-5678", 22L, "김기사", "010-9876-5432",
+                "소나타", "12가3456", 4, 1532, "서울특별시 강남구 강남대로 396", "서울특별시 중구 세종대로 110",
+                "ACCEPT", LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000),
+                "passenger0001@email.com", "driver0001@email.com");
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        byte[] binary = RideEventCodec.encode(dto);
+
+        // 필드 이름 없이 값만 기록하므로 JSON 의 절반 이하
+        assertThat(binary).hasSize(219);
+        assertThat(objectMapper.writeValueAsBytes(dto).length).isGreaterThan(binary.length * 2);
+    }
+
+    @Test
+    void 필드가_적은_이전_버전_이벤트_읽기_테스트() {
+        byte[] encoded = RideEventCodec.encode(new RideCancelDto(2L, 11L, 22L, null, "CANCEL", "passenger@email.com", "driver@email.com"));
+
+        // 마지막 필드(driverEmail) 를 기록하지 않았던 버전
+        byte[] older = Arrays.copyOf(encoded, encoded.length - 1 - "driver@email.com".length());
+        older[3] = (byte) (older[3] - 1);
+
+        RideCancelDto decoded = (RideCancelDto) RideEventCodec.decode(older);
+
+        assertThat(decoded.getPassengerEmail()).isEqualTo("passenger@email.com");
+        assertThat(decoded.getDriverEmail()).isNull();
+    }
+
+    @Test
+    void 필드가_추가된_다음_버전_이벤트_읽기_테스트() {
+        byte[] encoded = RideEventCodec.encode(new RideCancelDto(2L, 11L, 22L, null, "CANCEL", "passenger@email.com", "driver@email.com"));
+
+        // 뒤에 문자열 필드가 하나 더 붙은 버전
+        byte[] newer = Arrays.copyOf(encoded, encoded.length + 3);
+        newer[3] = (byte) (newer[3] + 1);
+        newer[encoded.length] = 3;
+        newer[encoded.length + 1] = 'o';
+        newer[encoded.length + 2] = 'k';
+
+        RideCancelDto decoded = (RideCancelDto) RideEventCodec.decode(newer);
+
+        assertThat(decoded.getDriverEmail()).isEqualTo("driver@email.com");
+    }
+
+    @Test
+    void JSON_이벤트_읽기_테스트() {
+        String json = "{\"rideId\":1,\"passengerEmail\":\"passenger@email.com\",\"acceptTime\":\"2025-03-01T12:30:15\",\"unknown\":true}";
+
+        RideAcceptDto decoded = (RideAcceptDto) deserializer.deserialize("ride-accept", json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decoded.getRideId()).isEqualTo(1L);
+        assertThat(decoded.getAcceptTime()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 30, 15));
+    }
+
+    @Test
+    void 잘린_이벤트_읽기_실패_테스트() {
+        byte[] encoded = serializer.serialize("ride-accept", acceptDto());
+
+        assertThrows(SerializationException.class,
+                () -> deserializer.deserialize("ride-accept", Arrays.copyOf(encoded, encoded.length / 2)));
+    }
+}
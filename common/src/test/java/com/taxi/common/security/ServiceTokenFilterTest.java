@@ -0,0 +1,79 @@
+package com.taxi.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceTokenFilterTest {
+
+    private final ServiceTokenFilter serviceTokenFilter = new ServiceTokenFilter("service-token");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 서비스_토큰_인증_테스트() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/users/id/1");
+        request.addHeader(ServiceTokenFilter.HEADER, "service-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        serviceTokenFilter.doFilter(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        assertNotNull(filterChain.getRequest());
+        assertEquals(ServiceTokenFilter.ROLE, authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void 서비스_토큰_불일치_테스트() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/users/id/1");
+        request.addHeader(ServiceTokenFilter.HEADER, "wrong-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        serviceTokenFilter.doFilter(request, response, filterChain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void 서비스_토큰_없음_테스트() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/users/id/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        serviceTokenFilter.doFilter(request, response, filterChain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    void 내부_API_외_경로_통과_테스트() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/phone");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        serviceTokenFilter.doFilter(request, response, filterChain);
+
+        assertNotNull(filterChain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void 서비스_토큰_설정_없으면_실패_테스트() {
+        assertThrows(IllegalStateException.class, () -> new ServiceTokenFilter(""));
+    }
+}
@@ -0,0 +1,22 @@
+package com.taxi.notificationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverOfferDto {
+
+    private String passengerEmail;    // 승객 이메일 (호출 수락 시 사용)
+    private String startLocation;     // 출발지
+    private String endLocation;       // 목적지
+    private Double distanceKm;        // 출발지까지의 거리
+    private LocalDateTime offerTime;  // 제안 시간
+    private LocalDateTime expireTime; // 제안 만료 시간
+}
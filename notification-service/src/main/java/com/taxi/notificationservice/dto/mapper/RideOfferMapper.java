@@ -0,0 +1,19 @@
+package com.taxi.notificationservice.dto.mapper;
+
+import com.taxi.common.core.dto.RideOfferDto;
+import com.taxi.notificationservice.dto.DriverOfferDto;
+
+public class RideOfferMapper {
+    public static DriverOfferDto toDriverOfferDto(RideOfferDto rideOfferDto) {
+        DriverOfferDto driverOfferDto = new DriverOfferDto();
+
+        driverOfferDto.setPassengerEmail(rideOfferDto.getPassengerEmail());
+        driverOfferDto.setStartLocation(rideOfferDto.getStartLocation());
+        driverOfferDto.setEndLocation(rideOfferDto.getEndLocation());
+        driverOfferDto.setDistanceKm(rideOfferDto.getDistanceKm());
+        driverOfferDto.setOfferTime(rideOfferDto.getOfferTime());
+        driverOfferDto.setExpireTime(rideOfferDto.getExpireTime());
+
+        return driverOfferDto;
+    }
+}
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taxi.common.core.dto.DriveCompleteDto;
 import com.taxi.common.core.dto.RideAcceptDto;
 import com.taxi.common.core.dto.RideCancelDto;
+import com.taxi.common.core.dto.RideOfferDto;
 import com.taxi.common.core.dto.RideStartDto;
 import com.taxi.common.core.exception.CustomInternalException;
 import com.taxi.notificationservice.dto.*;
 import com.taxi.notificationservice.dto.mapper.RideAcceptMapper;
 import com.taxi.notificationservice.dto.mapper.RideCancelMapper;
 import com.taxi.notificationservice.dto.mapper.RideCompleteMapper;
+import com.taxi.notificationservice.dto.mapper.RideOfferMapper;
 import com.taxi.notificationservice.dto.mapper.RideStartMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,12 +29,34 @@ public class NotificationConsumer {
     private final SimpMessagingTemplate messagingTemplate;
     private final SimpUserRegistry simpUserRegistry;
 
-    @KafkaListener(topics = "ride-accept", groupId = "taxi-consumer-group")
-    public void consumeRideAccept(String message) {
+    // 운행 이벤트는 JSON, 바이너리(RideEventCodec) 모두 읽고, 읽을 수 없는 메시지는 재시도 없이 건너뜀
+    private static final String RIDE_EVENT_DESERIALIZER = "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer";
+    private static final String RIDE_EVENT_DELEGATE = "spring.deserializer.value.delegate.class=com.taxi.common.core.codec.RideEventDeserializer";
+
+    // 운행 이벤트는 rideId, 호출 제안은 승객 이메일을 key로 발행되므로 파티션 수까지 concurrency를 늘려도 같은 운행의 이벤트 순서는 유지됨
+    @KafkaListener(topics = "ride-offer", groupId = "taxi-consumer-group", concurrency = "${notification.kafka.concurrency:1}")
+    public void consumeRideOffer(String message) {
         try {
             log.info("Received Message : {}", message);
 
-            RideAcceptDto rideAcceptDto = objectMapper.readValue(message, RideAcceptDto.class);
+            RideOfferDto rideOfferDto = objectMapper.readValue(message, RideOfferDto.class);
+
+            // 호출 제안(출발지, 목적지, 거리, 만료 시간 등) 기사에게 전송
+            DriverOfferDto driverOfferDto = RideOfferMapper.toDriverOfferDto(rideOfferDto);
+            String driverData = objectMapper.writeValueAsString(driverOfferDto);
+            messagingTemplate.convertAndSendToUser(rideOfferDto.getDriverEmail(), "/queue/notification", driverData);
+        } catch (Exception e) {
+            log.error("Json to Dto 변환 시 내부적인 오류가 발생하였습니다. : {}", e.getMessage());
+
+            throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
+        }
+    }
+
+    @KafkaListener(topics = "ride-accept", groupId = "taxi-consumer-group", concurrency = "${notification.kafka.concurrency:1}",
+            properties = {RIDE_EVENT_DESERIALIZER, RIDE_EVENT_DELEGATE})
+    public void consumeRideAccept(RideAcceptDto rideAcceptDto) {
+        try {
+            log.info("Received Message : {} (rideId : {})", "ride-accept", rideAcceptDto.getRideId());
 
             simpUserRegistry.getUsers().forEach(user -> {
                 System.out.println("user.getName() = " + user.getName());
@@ -54,12 +78,11 @@ public class NotificationConsumer {
         }
     }
 
-    @KafkaListener(topics = "ride-cancel", groupId = "taxi-consumer-group")
-    public void consumeRideCancel(String message) {
+    @KafkaListener(topics = "ride-cancel", groupId = "taxi-consumer-group", concurrency = "${notification.kafka.concurrency:1}",
+            properties = {RIDE_EVENT_DESERIALIZER, RIDE_EVENT_DELEGATE})
+    public void consumeRideCancel(RideCancelDto rideCancelDto) {
         try {
-            log.info("Received Message : {}", message);
-
-            RideCancelDto rideCancelDto = objectMapper.readValue(message, RideCancelDto.class);
+            log.info("Received Message : {} (rideId : {})", "ride-cancel", rideCancelDto.getRideId());
 
             // 승객 데이터 승객에게 전송
             PassengerCancelDto passengerCancelDto = RideCancelMapper.toPassengerCancelDto(rideCancelDto);
@@ -77,12 +100,11 @@ public class NotificationConsumer {
         }
     }
 
-    @KafkaListener(topics = "ride-start", groupId = "taxi-consumer-group")
-    public void consumeRideStart(String message) {
+    @KafkaListener(topics = "ride-start", groupId = "taxi-consumer-group", concurrency = "${notification.kafka.concurrency:1}",
+            properties = {RIDE_EVENT_DESERIALIZER, RIDE_EVENT_DELEGATE})
+    public void consumeRideStart(RideStartDto rideStartDto) {
         try {
-            log.info("Received Message : {}", message);
-
-            RideStartDto rideStartDto = objectMapper.readValue(message, RideStartDto.class);
+            log.info("Received Message : {} (rideId : {})", "ride-start", rideStartDto.getRideId());
 
             // 승객 데이터 승객에게 전송
             PassengerStartDto passengerStartDto = RideStartMapper.toPassengerStartDto(rideStartDto);
@@ -100,12 +122,11 @@ public class NotificationConsumer {
         }
     }
 
-    @KafkaListener(topics = "ride-complete", groupId = "taxi-consumer-group")
-    public void consumeRideComplete(String message) {
+    @KafkaListener(topics = "ride-complete", groupId = "taxi-consumer-group", concurrency = "${notification.kafka.concurrency:1}",
+            properties = {RIDE_EVENT_DESERIALIZER, RIDE_EVENT_DELEGATE})
+    public void consumeRideComplete(DriveCompleteDto driveCompleteDto) {
         try {
-            log.info("Received Message : {}", message);
-
-            DriveCompleteDto driveCompleteDto = objectMapper.readValue(message, DriveCompleteDto.class);
+            log.info("Received Message : {} (rideId : {})", "ride-complete", driveCompleteDto.getRideId());
 
             // 승객 데이터 승객에게 전송
             PassengerCompleteDto passengerCompleteDto = RideCompleteMapper.toPassengerCompleteDto(driveCompleteDto);
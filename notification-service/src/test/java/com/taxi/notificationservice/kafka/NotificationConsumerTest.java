@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taxi.common.core.dto.DriveCompleteDto;
 import com.taxi.common.core.dto.RideAcceptDto;
 import com.taxi.common.core.dto.RideCancelDto;
+import com.taxi.common.core.dto.RideOfferDto;
 import com.taxi.common.core.dto.RideStartDto;
 import com.taxi.common.security.JwtTokenUtil;
 import com.taxi.notificationservice.config.KafkaContainerConfig;
@@ -270,4 +271,30 @@ class NotificationConsumerTest {
         assertTrue(driverMessage.contains("50000"));
         assertFalse(driverMessage.contains("01023452345"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 호출_제안_consumer_test() throws JsonProcessingException, InterruptedException {
+        RideOfferDto rideOfferDto = new RideOfferDto();
+
+        rideOfferDto.setPassengerEmail(passengerEmail);
+        rideOfferDto.setDriverEmail(driverEmail);
+        rideOfferDto.setStartLocation("출발지");
+        rideOfferDto.setEndLocation("도착지");
+        rideOfferDto.setDistanceKm(1.2);
+        rideOfferDto.setOfferTime(LocalDateTime.now());
+        rideOfferDto.setExpireTime(LocalDateTime.now().plusSeconds(15));
+
+        String message = objectMapper.writeValueAsString(rideOfferDto);
+
+        kafkaTemplate.send("ride-offer", message);
+
+        String driverMessage = driverMessages.poll(5, TimeUnit.SECONDS);
+
+        System.out.println("driverMessage = " + driverMessage);
+
+        assertNotNull(driverMessage, "기사용 메시지 받음");
+        assertTrue(driverMessage.contains("출발지"));
+        assertTrue(driverMessage.contains("도착지"));
+        assertTrue(driverMessage.contains(passengerEmail));
+    }
+}
@@ -0,0 +1,93 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.dto.UserLookupRequestDto;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 호출 수락 시 승객, 기사 정보 조회 시간 (순서대로 조회 vs 동시에 조회)
+// user-service 응답은 지연 시간만큼 sleep 하는 stub 으로 대체, 캐시와 일괄 조회는 사용하지 않음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AcceptLookupBenchmark {
+
+    @Param({"10", "30"})
+    private long passengerDelayMs;
+
+    @Param({"20"})
+    private long driverDelayMs;
+
+    private ExecutorService executor;
+    private UserInfoCache userInfoCache;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserServiceCaller userServiceCaller = new UserServiceCaller(meterRegistry, new StandardEnvironment(), executor, new HedgeRouting());
+
+        userInfoCache = new UserInfoCache(new DelayedUserServiceClient(), userServiceCaller, null, executor, meterRegistry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public UserDto sequential() {
+        userInfoCache.getUserInfoByEmail("passenger@email.com");
+
+        return userInfoCache.getUserInfoByEmail("driver@email.com");
+    }
+
+    @Benchmark
+    public UserDto parallel() {
+        CompletableFuture<UserDto> passenger = userInfoCache.findUserInfoByEmail("passenger@email.com");
+        CompletableFuture<UserDto> driver = userInfoCache.findUserInfoByEmail("driver@email.com");
+
+        UserInfoCache.awaitAll(Duration.ofSeconds(1), passenger, driver);
+
+        return driver.join();
+    }
+
+    private class DelayedUserServiceClient implements UserServiceClient {
+
+        @Override
+        public UserDto getUserInfoByEmail(String email) {
+            sleep(email.startsWith("driver") ? driverDelayMs : passengerDelayMs);
+
+            return new UserDto(1L, "테스터", "01012341234", email);
+        }
+
+        @Override
+        public UserDto getUserInfoById(Long id) {
+            sleep(passengerDelayMs);
+
+            return new UserDto(id, "테스터", "01012341234", "passenger@email.com");
+        }
+
+        @Override
+        public List<UserDto> getUserInfos(UserLookupRequestDto dto) {
+            throw new UnsupportedOperationException();
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
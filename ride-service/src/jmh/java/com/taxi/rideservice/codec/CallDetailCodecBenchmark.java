@@ -0,0 +1,39 @@
+package com.taxi.rideservice.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 대기 호출 상세 정보 형식별 변환 시간 (형식별 크기는 CallDetailCodecsTest 에서 확인)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CallDetailCodecBenchmark {
+
+    @Param({"json", "binary"})
+    private String codecName;
+
+    private CallDetailCodec codec;
+    private RideCallRequestDto dto;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        codec = "json".equals(codecName) ? new JsonCallDetailCodec(new ObjectMapper()) : new BinaryCallDetailCodec();
+        dto = new RideCallRequestDto("passenger0001@email.com", 37.4979, 127.0276, "서울특별시 강남구 강남대로 396",
+                37.5665, 126.9780, "서울특별시 중구 세종대로 110");
+        encoded = codec.encode(dto);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(dto);
+    }
+
+    @Benchmark
+    public RideCallRequestDto decode() {
+        return codec.decode(encoded);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taxi.rideservice.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// 동시 요청 처리 시간 (Tomcat 기본 스레드 풀 200개 vs 가상 스레드)
+// 요청 하나는 Feign, JDBC, Redis 대기를 합친 blockingMs 동안 sleep 하는 것으로 대체
+// virtual 은 Java 21 에서만 실행 가능 (./gradlew -PjavaVersion=21 :ride-service:jmh)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200; // server.tomcat.threads.max 기본값
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200", "1000", "5000"})
+    private int concurrentRequests;
+
+    @Param({"20"})
+    private long blockingMs;
+
+    private AsyncTaskExecutor executor;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("request-");
+            virtual.setVirtualThreads(true);
+            executor = virtual;
+            return;
+        }
+
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(PLATFORM_THREADS);
+        platform.setMaxPoolSize(PLATFORM_THREADS);
+        platform.setQueueCapacity(Integer.MAX_VALUE);
+        platform.setThreadNamePrefix("request-");
+        platform.initialize();
+        executor = platform;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor platform) {
+            platform.shutdown();
+        }
+    }
+
+    // 동시에 들어온 요청이 모두 끝날 때까지 걸린 시간
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+}
@@ -0,0 +1,36 @@
+package com.taxi.rideservice.dispatch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 구역 배차 한 번의 배정 계산 시간 (호출 수 x 기사 수)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HungarianAssignmentBenchmark {
+
+    @Param({"50", "200", "500"})
+    private int size;
+
+    private double[][] cost;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        cost = new double[size][size];
+
+        // 픽업 거리 0 ~ 3km
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                cost[i][j] = random.nextDouble() * 3;
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] solve() {
+        return HungarianAssignment.solve(cost);
+    }
+}
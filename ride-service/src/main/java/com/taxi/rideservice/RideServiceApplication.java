@@ -3,9 +3,11 @@ package com.taxi.rideservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.taxi.common.core", "com.taxi.rideservice"})
 @EnableFeignClients
+@EnableScheduling
 public class RideServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,66 @@
+package com.taxi.rideservice.balancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 헤지 요청(같은 조회를 다른 인스턴스로 한 번 더 보내는 요청)의 인스턴스 분리
+// 같은 조회의 요청들은 같은 헤지 ID 헤더를 갖고, 먼저 선택된 인스턴스는 다음 요청에서 제외
+@Component
+public class HedgeRouting {
+
+    public static final String HEADER = "X-Hedge-Id";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, String> selected = new ConcurrentHashMap<>(); // 헤지 ID -> 먼저 선택된 인스턴스
+
+    // 현재 스레드의 Feign 요청에 헤지 ID 지정 (FeignConfig 인터셉터가 헤더로 추가)
+    public static <T> T withHedgeId(String hedgeId, Supplier<T> request) {
+        CURRENT.set(hedgeId);
+
+        try {
+            return request.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    public static String currentHedgeId() {
+        return CURRENT.get();
+    }
+
+    // 먼저 선택된 인스턴스를 제외한 후보 (제외하면 남는 인스턴스가 없으면 그대로)
+    public List<ServiceInstance> candidates(String hedgeId, List<ServiceInstance> instances) {
+        String excluded = hedgeId == null ? null : selected.get(hedgeId);
+
+        if (excluded == null) {
+            return instances;
+        }
+
+        List<ServiceInstance> others = instances.stream()
+                .filter(instance -> !excluded.equals(addressOf(instance)))
+                .toList();
+
+        return others.isEmpty() ? instances : others;
+    }
+
+    public void selected(String hedgeId, ServiceInstance instance) {
+        if (hedgeId != null) {
+            selected.putIfAbsent(hedgeId, addressOf(instance));
+        }
+    }
+
+    // 조회가 끝나면 삭제
+    public void release(String hedgeId) {
+        selected.remove(hedgeId);
+    }
+
+    private static String addressOf(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
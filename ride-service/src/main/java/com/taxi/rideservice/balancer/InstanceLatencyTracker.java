@@ -0,0 +1,189 @@
+package com.taxi.rideservice.balancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Feign 요청마다 선택된 인스턴스의 응답 시간, 처리 중인 요청 수를 기록 (LatencyAwareLoadBalancer가 사용)
+// LoadBalancerLifecycle 빈은 모든 로드밸런서 클라이언트에 적용되므로 서비스별로 구분해서 보관
+@Component
+@RequiredArgsConstructor
+public class InstanceLatencyTracker implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ride.lb.decay-ms:10000}")
+    private long decayMs; // 응답 시간 감쇠 기준 시간 (클수록 느렸던 인스턴스가 천천히 회복)
+
+    @Value("${ride.lb.failure-penalty-ms:1000}")
+    private long failurePenaltyMs; // 실패한 요청은 최소 이 시간만큼 걸린 것으로 기록
+
+    @Value("${ride.lb.cold-latency-ms:1}")
+    private double coldLatencyMs; // 응답 시간을 측정한 인스턴스가 없을 때의 기본 비용 (처리 중인 요청 수로만 비교)
+
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+
+        if (request.getContext() instanceof TimedRequestContext context && context.getRequestStartTime() == 0) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+
+        statsOf(lbResponse.getServer()).start();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+
+        // 인스턴스를 선택하지 못한 요청(DISCARD)은 기록하지 않음
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long startNanos = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        double elapsedMs = startNanos == 0 ? 0 : (System.nanoTime() - startNanos) / 1_000_000.0;
+
+        ResponseData response = completionContext.getClientResponse();
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+
+        record(lbResponse.getServer(), elapsedMs, failed);
+    }
+
+    public void record(ServiceInstance instance, double elapsedMs, boolean failed) {
+        statsOf(instance).complete(failed ? Math.max(elapsedMs, failurePenaltyMs) : elapsedMs, failed, decayMs);
+    }
+
+    public double score(ServiceInstance instance) {
+        return statsOf(instance).score(decayMs, coldLatencyMs(serviceKeyOf(instance.getServiceId())));
+    }
+
+    // 응답 시간을 측정하지 않은 인스턴스의 응답 시간 (측정된 인스턴스의 중앙값, 없으면 기본 비용)
+    private double coldLatencyMs(String serviceId) {
+        Map<String, InstanceStats> instances = services.get(serviceId);
+
+        if (instances == null) {
+            return coldLatencyMs;
+        }
+
+        double[] latencies = instances.values().stream()
+                .filter(InstanceStats::isMeasured)
+                .mapToDouble(stats -> stats.latencyMs(decayMs))
+                .sorted()
+                .toArray();
+
+        if (latencies.length == 0) {
+            return coldLatencyMs;
+        }
+
+        int middle = latencies.length / 2;
+
+        return latencies.length % 2 == 1 ? latencies[middle] : (latencies[middle - 1] + latencies[middle]) / 2;
+    }
+
+    // 서비스 목록에서 빠진 인스턴스의 상태와 지표 삭제 (로드밸런서가 인스턴스 목록을 받을 때마다 호출)
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceStats> registered = services.get(serviceKeyOf(serviceId));
+
+        // 목록을 받지 못한 경우(일시적인 조회 실패 등)에는 유지
+        if (registered == null || instances.isEmpty()) {
+            return;
+        }
+
+        Set<String> addresses = instances.stream()
+                .map(InstanceLatencyTracker::addressOf)
+                .collect(Collectors.toSet());
+
+        registered.keySet().removeIf(address -> {
+            if (addresses.contains(address)) {
+                return false;
+            }
+
+            unregister(serviceKeyOf(serviceId), address);
+
+            return true;
+        });
+    }
+
+    // 서비스별 인스턴스 상태 (응답 시간 낮은 순)
+    public Map<String, List<InstanceSnapshot>> snapshot() {
+        Map<String, List<InstanceSnapshot>> result = new LinkedHashMap<>();
+
+        services.forEach((serviceId, instances) -> result.put(serviceId, instances.values().stream()
+                .map(stats -> new InstanceSnapshot(stats.getInstance(), stats.latencyMs(decayMs), stats.getInFlight(),
+                        stats.getRequests(), stats.getFailures()))
+                .sorted(Comparator.comparingDouble(InstanceSnapshot::latencyMs))
+                .toList()));
+
+        return result;
+    }
+
+    InstanceStats statsOf(ServiceInstance instance) {
+        String serviceId = serviceKeyOf(instance.getServiceId());
+
+        return services.computeIfAbsent(serviceId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(addressOf(instance), key -> register(serviceId, key));
+    }
+
+    private static String serviceKeyOf(String serviceId) {
+        return serviceId == null ? "unknown" : serviceId.toLowerCase();
+    }
+
+    private static String addressOf(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private InstanceStats register(String serviceId, String address) {
+        InstanceStats stats = new InstanceStats(address);
+        Tags tags = Tags.of("service", serviceId, "instance", address);
+
+        meterRegistry.gauge("ride.lb.instance.latency", tags, stats, value -> value.latencyMs(decayMs));
+        meterRegistry.gauge("ride.lb.instance.in-flight", tags, stats, InstanceStats::getInFlight);
+
+        return stats;
+    }
+
+    private void unregister(String serviceId, String address) {
+        Tags tags = Tags.of("service", serviceId, "instance", address);
+
+        meterRegistry.find("ride.lb.instance.latency").tags(tags).meters().forEach(meterRegistry::remove);
+        meterRegistry.find("ride.lb.instance.in-flight").tags(tags).meters().forEach(meterRegistry::remove);
+    }
+
+    public record InstanceSnapshot(String instance, double latencyMs, int inFlight, long requests, long failures) {
+    }
+}
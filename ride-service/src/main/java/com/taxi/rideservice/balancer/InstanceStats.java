@@ -0,0 +1,90 @@
+package com.taxi.rideservice.balancer;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 인스턴스 하나의 응답 시간(peak EWMA)과 처리 중인 요청 수
+// 느린 응답은 바로 반영하고, 빠른 응답과 시간 경과(decayMs)에 따라 서서히 낮아짐
+public class InstanceStats {
+
+    @Getter
+    private final String instance; // host:port
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private double costMs;          // 응답 시간 EWMA (ms)
+    private long lastSampleNanos;   // 마지막 응답 시간 기록 시각
+
+    public InstanceStats(String instance) {
+        this.instance = instance;
+    }
+
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    public void complete(double elapsedMs, boolean failed, long decayMs) {
+        inFlight.updateAndGet(count -> Math.max(count - 1, 0));
+        requests.increment();
+
+        if (failed) {
+            failures.increment();
+        }
+
+        record(elapsedMs, decayMs);
+    }
+
+    // 선택 비용 = 시간 경과를 반영한 응답 시간 x (처리 중인 요청 수 + 1)
+    // 한 번도 응답하지 않은 인스턴스는 coldLatencyMs(다른 인스턴스의 응답 시간 중앙값)로 계산
+    // (0으로 계산하면 처리 중인 요청이 쌓여도 새 인스턴스로만 요청이 몰림)
+    public double score(long decayMs, double coldLatencyMs) {
+        double latencyMs = isMeasured() ? latencyMs(decayMs) : coldLatencyMs;
+
+        return latencyMs * (inFlight.get() + 1);
+    }
+
+    public synchronized boolean isMeasured() {
+        return lastSampleNanos != 0;
+    }
+
+    public synchronized double latencyMs(long decayMs) {
+        if (lastSampleNanos == 0) {
+            return 0;
+        }
+
+        return costMs * weight(System.nanoTime() - lastSampleNanos, decayMs);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    private synchronized void record(double elapsedMs, long decayMs) {
+        long now = System.nanoTime();
+
+        if (lastSampleNanos == 0 || elapsedMs > costMs) {
+            costMs = elapsedMs;
+        } else {
+            double weight = weight(now - lastSampleNanos, decayMs);
+            costMs = costMs * weight + elapsedMs * (1 - weight);
+        }
+
+        lastSampleNanos = now;
+    }
+
+    private static double weight(long elapsedNanos, long decayMs) {
+        return Math.exp(-(elapsedNanos / 1_000_000.0) / decayMs);
+    }
+}
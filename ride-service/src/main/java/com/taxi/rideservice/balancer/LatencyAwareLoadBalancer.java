@@ -0,0 +1,89 @@
+package com.taxi.rideservice.balancer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 응답 시간, 처리 중인 요청 수 기준 로드밸런서 (power of two choices)
+// 무작위로 두 인스턴스를 뽑아 비용(InstanceLatencyTracker)이 낮은 쪽을 선택
+// 항상 가장 빠른 인스턴스만 고르지 않으므로 한 인스턴스로 요청이 몰리지 않음
+// 헤지 요청은 같은 조회의 첫 요청이 보내진 인스턴스를 제외하고 선택 (HedgeRouting)
+@RequiredArgsConstructor
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceLatencyTracker tracker;
+    private final HedgeRouting hedgeRouting;
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+
+        String hedgeId = hedgeIdOf(request);
+
+        return supplier.get(request).next().map(instances -> {
+            tracker.retain(serviceId, instances);
+
+            Response<ServiceInstance> response = choose(hedgeRouting.candidates(hedgeId, instances));
+
+            if (response.hasServer()) {
+                hedgeRouting.selected(hedgeId, response.getServer());
+
+                if (supplier instanceof SelectedInstanceCallback callback) {
+                    callback.selectedServiceInstance(response.getServer());
+                }
+            }
+
+            return response;
+        });
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스 없음 : {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+
+        return new DefaultResponse(tracker.score(a) <= tracker.score(b) ? a : b);
+    }
+
+    private String hedgeIdOf(Request request) {
+        if (request.getContext() instanceof RequestDataContext context && context.getClientRequest() != null
+                && context.getClientRequest().getHeaders() != null) {
+            return context.getClientRequest().getHeaders().getFirst(HedgeRouting.HEADER);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taxi.rideservice.balancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// 인스턴스별 응답 시간, 처리 중인 요청 수 조회 (/actuator/loadbalancer)
+// management.endpoints.web.exposure.include 에 loadbalancer 추가 필요
+@Component
+@Endpoint(id = "loadbalancer")
+@RequiredArgsConstructor
+public class LoadBalancerStatsEndpoint {
+
+    private final InstanceLatencyTracker tracker;
+
+    @ReadOperation
+    public Map<String, List<InstanceLatencyTracker.InstanceSnapshot>> stats() {
+        return tracker.snapshot();
+    }
+}
@@ -0,0 +1,25 @@
+package com.taxi.rideservice.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// user-service 내부 API(/internal/**) 호출에 사용하는 서비스 토큰 (X-Service-Token 헤더)
+// 회원 토큰 서명 키(jwt.secretKey)와 별도로 두 서비스가 공유하는 값, 회원 토큰은 발급할 수 없음
+// 설정이 없으면 회원 조회가 모두 실패하므로 시작 시 실패
+@Component
+public class ServiceCredential {
+
+    private final String token;
+
+    public ServiceCredential(@Value("${service.token:}") String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("service.token 설정이 없습니다. user-service 회원 조회에 필요합니다.");
+        }
+
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+}
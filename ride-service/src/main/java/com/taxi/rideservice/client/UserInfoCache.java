@@ -0,0 +1,214 @@
+package com.taxi.rideservice.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.exception.CustomInternalException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// user-service 회원 정보 로컬 캐시 (UserServiceClient 앞단)
+// id, 이메일 두 key로 보관하고 한쪽으로 조회한 결과는 다른 쪽에도 저장
+// 같은 key를 동시에 조회하면 한 요청만 user-service를 호출하고 나머지는 그 결과를 기다림
+// 회원 정보가 바뀌면 user-changed 이벤트로 삭제, 이벤트를 놓쳐도 TTL이 지나면 다시 조회
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInfoCache {
+
+    private final UserServiceClient userServiceClient;
+    private final UserServiceCaller userServiceCaller;
+    private final UserLookupBatcher userLookupBatcher;
+    private final Executor userLookupExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ride.user-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ride.user-batch.enabled:true}")
+    private boolean batchEnabled; // 캐시에 없는 회원은 UserLookupBatcher로 모아서 조회
+
+    @Value("${ride.user-cache.ttl-seconds:300}")
+    private long ttlSeconds; // 저장 후 만료 시간
+
+    @Value("${ride.user-cache.max-size:10000}")
+    private long maxSize; // key 종류별 최대 개수 (초과하면 오래 사용하지 않은 것부터 삭제)
+
+    private AsyncCache<Long, UserDto> byId;
+    private AsyncCache<String, UserDto> byEmail;
+
+    @PostConstruct
+    public void init() {
+        byId = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .buildAsync();
+        byEmail = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .buildAsync();
+
+        meterRegistry.gauge("ride.user-cache.size", this, cache -> cache.byId.synchronous().estimatedSize() + cache.byEmail.synchronous().estimatedSize());
+    }
+
+    public UserDto getUserInfoByEmail(String email) {
+        return join(findUserInfoByEmail(email));
+    }
+
+    public UserDto getUserInfoById(Long id) {
+        return join(findUserInfoById(id));
+    }
+
+    // 비동기 조회, 여러 회원을 먼저 모두 요청한 뒤 기다리면 user-service 일괄 조회 한 번으로 묶임
+    // (일괄 조회를 사용하지 않으면 각각 동시에 개별 조회)
+    public CompletableFuture<UserDto> findUserInfoByEmail(String email) {
+        if (!enabled) {
+            return loadAsync(email, "get-user-info-by-email", userServiceClient::getUserInfoByEmail);
+        }
+
+        Function<String, CompletableFuture<UserDto>> loader = batchEnabled
+                ? userLookupBatcher::findByEmail
+                : key -> loadAsync(key, "get-user-info-by-email", userServiceClient::getUserInfoByEmail);
+
+        return find(byEmail, "email", email, loader,
+                user -> {
+                    if (user.getUserId() != null) {
+                        byId.asMap().putIfAbsent(user.getUserId(), CompletableFuture.completedFuture(user));
+                    }
+                });
+    }
+
+    public CompletableFuture<UserDto> findUserInfoById(Long id) {
+        if (!enabled) {
+            return loadAsync(id, "get-user-info-by-id", userServiceClient::getUserInfoById);
+        }
+
+        Function<Long, CompletableFuture<UserDto>> loader = batchEnabled
+                ? userLookupBatcher::findById
+                : key -> loadAsync(key, "get-user-info-by-id", userServiceClient::getUserInfoById);
+
+        return find(byId, "id", id, loader,
+                user -> {
+                    if (user.getEmail() != null) {
+                        byEmail.asMap().putIfAbsent(user.getEmail(), CompletableFuture.completedFuture(user));
+                    }
+                });
+    }
+
+    // 조회 결과 대기 (조회 실패는 원래 예외 그대로 전달)
+    public static UserDto join(CompletableFuture<UserDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    // 여러 조회를 함께 기다리되 전체 대기 시간은 timeout으로 제한 (가장 느린 조회만큼만 기다림)
+    // 조회 실패는 원래 예외 그대로, 시간 초과는 내부 오류로 전달
+    public static void awaitAll(Duration timeout, CompletableFuture<?>... lookups) {
+        try {
+            CompletableFuture.allOf(lookups).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new CustomInternalException("회원 정보 조회 중 오류가 발생하였습니다.");
+        } catch (TimeoutException e) {
+            log.error("회원 정보 조회 시간 초과 : {}ms", timeout.toMillis());
+            throw new CustomInternalException("회원 정보 조회 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomInternalException("회원 정보 조회 중 오류가 발생하였습니다.");
+        }
+    }
+
+    // 회원 정보 변경 시 두 key 모두 삭제 (조회 중인 요청의 결과도 저장되지 않음)
+    public void invalidate(Long id, String email) {
+        if (id != null) {
+            byId.synchronous().invalidate(id);
+        }
+
+        if (email != null) {
+            byEmail.synchronous().invalidate(email);
+        }
+    }
+
+    public void invalidateAll() {
+        byId.synchronous().invalidateAll();
+        byEmail.synchronous().invalidateAll();
+    }
+
+    private <K> CompletableFuture<UserDto> find(AsyncCache<K, UserDto> cache, String keyType, K key,
+                                                Function<K, CompletableFuture<UserDto>> loader, Consumer<UserDto> linkOtherKey) {
+        ConcurrentMap<K, CompletableFuture<UserDto>> entries = cache.asMap();
+        CompletableFuture<UserDto> cached = entries.get(key);
+
+        if (cached == null) {
+            CompletableFuture<UserDto> loading = new CompletableFuture<>();
+            cached = entries.putIfAbsent(key, loading);
+
+            if (cached == null) {
+                record(keyType, "miss");
+
+                loader.apply(key).whenComplete((user, e) -> {
+                    if (e != null) {
+                        // 실패한 결과는 캐시에 남지 않음
+                        entries.remove(key, loading);
+                        loading.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                        return;
+                    }
+
+                    // 조회 중에 삭제(invalidate)되지 않았을 때만 다른 key에도 저장
+                    // (조회 스레드가 다르므로 결과를 받은 쪽이 바로 다른 key로 조회해도 보이도록 먼저 저장)
+                    if (user != null && entries.get(key) == loading) {
+                        linkOtherKey.accept(user);
+                    }
+
+                    loading.complete(user);
+                });
+
+                return loading;
+            }
+        }
+
+        // 조회 중인 요청을 기다린 경우는 shared
+        record(keyType, cached.isDone() ? "hit" : "shared");
+
+        return cached;
+    }
+
+    // 일괄 조회를 사용하지 않으면 조회 전용 스레드에서 개별 조회 (여러 회원을 요청하면 동시에 진행)
+    private <K> CompletableFuture<UserDto> loadAsync(K key, String method, Function<K, UserDto> loader) {
+        try {
+            return CompletableFuture.supplyAsync(() -> userServiceCaller.call(method, () -> loader.apply(key)), userLookupExecutor);
+        } catch (RuntimeException e) {
+            // 큐가 가득 차서 거절된 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void record(String keyType, String result) {
+        meterRegistry.counter("ride.user-cache.requests", "key", keyType, "result", result).increment();
+    }
+}
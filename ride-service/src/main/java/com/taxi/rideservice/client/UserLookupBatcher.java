@@ -0,0 +1,154 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.dto.UserLookupRequestDto;
+import com.taxi.common.core.exception.CustomBadRequestException;
+import com.taxi.rideservice.config.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 짧은 시간(windowMs) 동안 들어온 회원 조회를 모아 user-service 일괄 조회 한 번으로 처리
+// 여러 회원 요청의 조회가 한 batch에 섞이므로 회원 인증 헤더가 아닌 서비스 토큰으로 조회 (FeignConfig)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserLookupBatcher {
+
+    private final UserServiceClient userServiceClient;
+    private final UserServiceCaller userServiceCaller;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ride.user-batch.window-ms:5}")
+    private long windowMs; // 첫 조회 후 다른 조회를 기다리는 시간
+
+    @Value("${ride.user-batch.max-size:100}")
+    private int maxSize; // 이 개수가 모이면 기다리지 않고 바로 조회
+
+    @Value("${ride.user-batch.threads:4}")
+    private int threads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads; // 가상 스레드 모드에서는 일괄 조회(Feign 호출)도 가상 스레드에서 실행
+
+    private ScheduledExecutorService executor;
+
+    private final Object lock = new Object();
+    private List<Lookup> pending = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        executor = VirtualThreads.isActive(virtualThreads)
+                ? Executors.newScheduledThreadPool(threads, new VirtualThreadTaskExecutor("user-batch-").getVirtualThreadFactory())
+                : Executors.newScheduledThreadPool(threads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<UserDto> findById(Long id) {
+        return enqueue(new Lookup(id, null, new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<UserDto> findByEmail(String email) {
+        return enqueue(new Lookup(null, email, new CompletableFuture<>()));
+    }
+
+    private CompletableFuture<UserDto> enqueue(Lookup lookup) {
+        List<Lookup> full = null;
+
+        synchronized (lock) {
+            pending.add(lookup);
+
+            if (pending.size() >= maxSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                executor.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (full != null) {
+            List<Lookup> batch = full;
+            executor.execute(() -> send(batch));
+        }
+
+        return lookup.result();
+    }
+
+    private void flush() {
+        List<Lookup> batch;
+
+        synchronized (lock) {
+            batch = takePending();
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<Lookup> takePending() {
+        List<Lookup> batch = pending;
+        pending = new ArrayList<>();
+
+        return batch;
+    }
+
+    private void send(List<Lookup> batch) {
+        UserLookupRequestDto request = new UserLookupRequestDto();
+
+        for (Lookup lookup : batch) {
+            if (lookup.id() != null) {
+                request.getIds().add(lookup.id());
+            } else {
+                request.getEmails().add(lookup.email());
+            }
+        }
+
+        meterRegistry.summary("ride.user-batch.size").record(batch.size());
+
+        try {
+            Map<Long, UserDto> byId = new HashMap<>();
+            Map<String, UserDto> byEmail = new HashMap<>();
+
+            List<UserDto> users = userServiceCaller.call("get-user-infos", () -> userServiceClient.getUserInfos(request));
+
+            for (UserDto user : users) {
+                byId.put(user.getUserId(), user);
+                byEmail.put(user.getEmail(), user);
+            }
+
+            for (Lookup lookup : batch) {
+                UserDto user = lookup.id() != null ? byId.get(lookup.id()) : byEmail.get(lookup.email());
+
+                if (user == null) {
+                    lookup.result().completeExceptionally(new CustomBadRequestException("정보가 없는 회원입니다."));
+                } else {
+                    lookup.result().complete(user);
+                }
+            }
+        } catch (Exception e) {
+            log.error("회원 정보 일괄 조회 실패 ({}건) : {}", batch.size(), e.getMessage());
+            batch.forEach(lookup -> lookup.result().completeExceptionally(e));
+        }
+    }
+
+    private record Lookup(Long id, String email, CompletableFuture<UserDto> result) {
+    }
+}
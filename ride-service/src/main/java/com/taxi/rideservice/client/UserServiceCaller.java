@@ -0,0 +1,223 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// user-service 호출 공통 처리 (UserServiceClient 호출은 모두 이 클래스를 거침)
+// - bulkhead : user-service 동시 호출 수 제한, user-service가 멈춰도 ride-service 스레드가 모두 묶이지 않음
+// - hedge : 응답이 p95 만큼 늦으면 다른 인스턴스로 한 번 더 요청하고 먼저 온 응답 사용 (조회만, 기본 사용 안 함)
+// 설정은 ride.user-client.<메서드>.* 로 메서드별 지정, 없으면 ride.user-client.* 기본값
+@Component
+@Slf4j
+public class UserServiceCaller {
+
+    private static final String PREFIX = "ride.user-client.";
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Executor userHedgeExecutor;
+    private final HedgeRouting hedgeRouting;
+
+    private final Semaphore bulkhead;
+    private final long bulkheadMaxWaitMs; // 동시 호출 수가 가득 찼을 때 기다리는 최대 시간
+
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+
+    public UserServiceCaller(MeterRegistry meterRegistry, Environment environment, Executor userHedgeExecutor, HedgeRouting hedgeRouting) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.userHedgeExecutor = userHedgeExecutor;
+        this.hedgeRouting = hedgeRouting;
+        this.bulkhead = new Semaphore(environment.getProperty(PREFIX + "bulkhead.max-concurrent", Integer.class, 64));
+        this.bulkheadMaxWaitMs = environment.getProperty(PREFIX + "bulkhead.max-wait-ms", Long.class, 100L);
+    }
+
+    public <T> T call(String method, Supplier<T> request) {
+        Policy policy = policyOf(method);
+
+        if (policy.hedge()) {
+            return policy.timer().record(() -> hedged(method, policy, request));
+        }
+
+        acquire(method, policy);
+
+        try {
+            return policy.timer().record(request);
+        } finally {
+            release(policy);
+        }
+    }
+
+    // 첫 요청이 헤지 지연 시간 안에 끝나지 않으면 헤지 요청을 보내고, 둘 중 먼저 성공한 응답 사용
+    // 동시 호출 수는 요청마다 하나씩 차지하고 그 요청이 끝날 때 반환 (먼저 응답하지 못한 요청도 끝날 때까지 차지)
+    private <T> T hedged(String method, Policy policy, Supplier<T> request) {
+        String hedgeId = UUID.randomUUID().toString();
+
+        acquire(method, policy);
+
+        try {
+            CompletableFuture<T> primary = attempt(hedgeId, policy, request);
+
+            if (primary == null) {
+                // 헤지 실행기가 가득 차면 현재 스레드에서 바로 호출
+                try {
+                    return request.get();
+                } finally {
+                    release(policy);
+                }
+            }
+
+            try {
+                return primary.get(hedgeDelayMs(policy), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 헤지 지연 시간 초과, 헤지 요청 전송
+            }
+
+            // 헤지 요청도 user-service 호출이므로 동시 호출 수에 여유가 있을 때만 전송
+            if (policy.bulkhead() && !bulkhead.tryAcquire()) {
+                return primary.get();
+            }
+
+            CompletableFuture<T> hedge = attempt(hedgeId, policy, request);
+
+            if (hedge == null) {
+                release(policy);
+
+                return primary.get();
+            }
+
+            meterRegistry.counter("ride.user-client.hedges", "method", method, "result", "sent").increment();
+
+            return firstSuccess(method, primary, hedge).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new CustomInternalException("회원 정보 조회 중 오류가 발생하였습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomInternalException("회원 정보 조회 중 오류가 발생하였습니다.");
+        } finally {
+            hedgeRouting.release(hedgeId);
+        }
+    }
+
+    // 헤지 실행기에서 요청 실행, 요청이 끝나면 차지한 동시 호출 수 반환
+    // 큐가 가득 차서 거절되면 null (동시 호출 수는 호출한 쪽에서 반환)
+    private <T> CompletableFuture<T> attempt(String hedgeId, Policy policy, Supplier<T> request) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return HedgeRouting.withHedgeId(hedgeId, request);
+                } finally {
+                    release(policy);
+                }
+            }, userHedgeExecutor);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 둘 중 먼저 성공한 응답, 둘 다 실패하면 나중 실패 (헤지 요청이 먼저 성공하면 won 기록)
+    private <T> CompletableFuture<T> firstSuccess(String method, CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (CompletableFuture<T> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((value, e) -> {
+                if (e == null) {
+                    if (result.complete(value) && attempt == hedge) {
+                        meterRegistry.counter("ride.user-client.hedges", "method", method, "result", "won").increment();
+                    }
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                }
+            });
+        }
+
+        return result;
+    }
+
+    // 최근 응답 시간의 백분위(p95) 값, 측정값이 없거나 너무 작으면 최소 지연 시간
+    private long hedgeDelayMs(Policy policy) {
+        double percentileMs = 0;
+
+        for (ValueAtPercentile value : policy.timer().takeSnapshot().percentileValues()) {
+            percentileMs = value.value(TimeUnit.MILLISECONDS);
+        }
+
+        return Math.max((long) Math.ceil(percentileMs), policy.hedgeMinDelayMs());
+    }
+
+    private void acquire(String method, Policy policy) {
+        if (!policy.bulkhead()) {
+            return;
+        }
+
+        try {
+            if (bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.error("user-service 동시 호출 수 초과 : {}", method);
+        meterRegistry.counter("ride.user-client.bulkhead.rejected", "method", method).increment();
+
+        throw new CustomInternalException("회원 서비스 요청이 많아 처리할 수 없습니다.");
+    }
+
+    private void release(Policy policy) {
+        if (policy.bulkhead()) {
+            bulkhead.release();
+        }
+    }
+
+    private Policy policyOf(String method) {
+        return policies.computeIfAbsent(method, key -> {
+            boolean hedge = property(key, "hedge.enabled", Boolean.class, false);
+            double percentile = property(key, "hedge.percentile", Double.class, 0.95);
+            long minDelayMs = property(key, "hedge.min-delay-ms", Long.class, 20L);
+            boolean bulkhead = property(key, "bulkhead.enabled", Boolean.class, true);
+
+            // 헤지 지연 시간 계산에 사용할 응답 시간 (헤지 요청 비율 = hedges{result=sent} / requests)
+            Timer timer = Timer.builder("ride.user-client.requests")
+                    .tag("method", key)
+                    .publishPercentiles(percentile)
+                    .register(meterRegistry);
+
+            return new Policy(hedge, minDelayMs, bulkhead, timer);
+        });
+    }
+
+    private <V> V property(String method, String name, Class<V> type, V defaultValue) {
+        V value = environment.getProperty(PREFIX + method + "." + name, type);
+
+        return value != null ? value : environment.getProperty(PREFIX + name, type, defaultValue);
+    }
+
+    private record Policy(boolean hedge, long hedgeMinDelayMs, boolean bulkhead, Timer timer) {
+    }
+}
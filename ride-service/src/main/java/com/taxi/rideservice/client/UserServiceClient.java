@@ -1,16 +1,26 @@
 package com.taxi.rideservice.client;
 
 import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.dto.UserLookupRequestDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
+// 회원 조회는 user-service 내부 API를 서비스 토큰으로 호출 (요청 스레드 밖에서도 회원 토큰 없이 조회)
 @FeignClient(name = "user-service")
 public interface UserServiceClient {
 
-    @GetMapping("/api/auth/email/{email}")
+    @GetMapping("/internal/users/email/{email}")
     UserDto getUserInfoByEmail(@PathVariable("email") String email);
 
-    @GetMapping("/api/auth/id/{id}")
+    @GetMapping("/internal/users/id/{id}")
     UserDto getUserInfoById(@PathVariable("id") Long id);
-}
\ No newline at end of file
+
+    // 일괄 조회 (여러 요청의 조회를 모아 서비스 토큰으로 한 번에 조회)
+    @PostMapping("/internal/users")
+    List<UserDto> getUserInfos(@RequestBody UserLookupRequestDto dto);
+}
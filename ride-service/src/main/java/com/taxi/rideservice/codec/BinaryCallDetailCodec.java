@@ -0,0 +1,139 @@
+package com.taxi.rideservice.codec;
+
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 필드 이름 없이 값만 저장하는 고정 순서 바이너리 형식
+// [MAGIC][VERSION][null 여부 비트][이메일][출발 위도][출발 경도][출발지][도착 위도][도착 경도][목적지]
+// 문자열은 (2바이트 길이 + UTF-8), 좌표는 8바이트 double
+@Component
+public class BinaryCallDetailCodec implements CallDetailCodec {
+
+    private static final byte MAGIC = (byte) 0xC1;
+    private static final byte VERSION = 1;
+
+    private static final int PASSENGER_EMAIL = 1;
+    private static final int START_LATITUDE = 1 << 1;
+    private static final int START_LONGITUDE = 1 << 2;
+    private static final int START_LOCATION = 1 << 3;
+    private static final int END_LATITUDE = 1 << 4;
+    private static final int END_LONGITUDE = 1 << 5;
+    private static final int END_LOCATION = 1 << 6;
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    @Override
+    public byte[] encode(RideCallRequestDto dto) {
+        byte[] passengerEmail = utf8(dto.getPassengerEmail());
+        byte[] startLocation = utf8(dto.getStartLocation());
+        byte[] endLocation = utf8(dto.getEndLocation());
+
+        int present = flag(passengerEmail, PASSENGER_EMAIL)
+                | flag(dto.getStartLatitude(), START_LATITUDE)
+                | flag(dto.getStartLongitude(), START_LONGITUDE)
+                | flag(startLocation, START_LOCATION)
+                | flag(dto.getEndLatitude(), END_LATITUDE)
+                | flag(dto.getEndLongitude(), END_LONGITUDE)
+                | flag(endLocation, END_LOCATION);
+
+        int size = 3
+                + stringSize(passengerEmail) + doubleSize(dto.getStartLatitude()) + doubleSize(dto.getStartLongitude())
+                + stringSize(startLocation) + doubleSize(dto.getEndLatitude()) + doubleSize(dto.getEndLongitude())
+                + stringSize(endLocation);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+
+        buffer.put(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) present);
+
+        putString(buffer, passengerEmail);
+        putDouble(buffer, dto.getStartLatitude());
+        putDouble(buffer, dto.getStartLongitude());
+        putString(buffer, startLocation);
+        putDouble(buffer, dto.getEndLatitude());
+        putDouble(buffer, dto.getEndLongitude());
+        putString(buffer, endLocation);
+
+        return buffer.array();
+    }
+
+    @Override
+    public RideCallRequestDto decode(byte[] data) {
+        if (!supports(data) || data[1] != VERSION) {
+            throw new CustomInternalException("호출 정보 변환 중 내부적인 오류가 발생하였습니다.");
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data, 3, data.length - 3);
+            int present = data[2] & 0xFF;
+
+            RideCallRequestDto dto = new RideCallRequestDto();
+
+            dto.setPassengerEmail((present & PASSENGER_EMAIL) != 0 ? getString(buffer) : null);
+            dto.setStartLatitude((present & START_LATITUDE) != 0 ? buffer.getDouble() : null);
+            dto.setStartLongitude((present & START_LONGITUDE) != 0 ? buffer.getDouble() : null);
+            dto.setStartLocation((present & START_LOCATION) != 0 ? getString(buffer) : null);
+            dto.setEndLatitude((present & END_LATITUDE) != 0 ? buffer.getDouble() : null);
+            dto.setEndLongitude((present & END_LONGITUDE) != 0 ? buffer.getDouble() : null);
+            dto.setEndLocation((present & END_LOCATION) != 0 ? getString(buffer) : null);
+
+            return dto;
+        } catch (RuntimeException e) {
+            throw new CustomInternalException("호출 정보 변환 중 내부적인 오류가 발생하였습니다.");
+        }
+    }
+
+    @Override
+    public boolean supports(byte[] data) {
+        return data.length >= 3 && data[0] == MAGIC;
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int flag(Object value, int bit) {
+        return value == null ? 0 : bit;
+    }
+
+    private static int stringSize(byte[] value) {
+        return value == null ? 0 : 2 + value.length;
+    }
+
+    private static int doubleSize(Double value) {
+        return value == null ? 0 : 8;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value != null) {
+            if (value.length > 0xFFFF) {
+                throw new CustomInternalException("호출 정보 변환 중 내부적인 오류가 발생하였습니다.");
+            }
+
+            buffer.putShort((short) value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static void putDouble(ByteBuffer buffer, Double value) {
+        if (value != null) {
+            buffer.putDouble(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+
+        return value;
+    }
+}
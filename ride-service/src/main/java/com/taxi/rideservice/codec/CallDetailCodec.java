@@ -0,0 +1,17 @@
+package com.taxi.rideservice.codec;
+
+import com.taxi.rideservice.dto.RideCallRequestDto;
+
+// 대기 호출 상세 정보(ride:detail:*) 저장 형식
+public interface CallDetailCodec {
+
+    // 설정(ride.call-detail.codec)에서 사용하는 이름
+    String name();
+
+    byte[] encode(RideCallRequestDto dto);
+
+    RideCallRequestDto decode(byte[] data);
+
+    // 저장된 값이 이 형식으로 저장되었는지 (형식 변경 중에도 기존 값을 읽을 수 있도록)
+    boolean supports(byte[] data);
+}
@@ -0,0 +1,39 @@
+package com.taxi.rideservice.codec;
+
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 저장은 설정한 형식(ride.call-detail.codec)으로, 조회는 저장된 값의 형식에 맞춰 처리
+// 형식을 바꾸는 중에도 이전 형식으로 저장된 호출을 읽을 수 있음
+@Component
+public class CallDetailCodecs {
+
+    private final List<CallDetailCodec> codecs;
+    private final CallDetailCodec writeCodec;
+
+    public CallDetailCodecs(List<CallDetailCodec> codecs, @Value("${ride.call-detail.codec:json}") String codecName) {
+        this.codecs = codecs;
+        this.writeCodec = codecs.stream()
+                .filter(codec -> codec.name().equalsIgnoreCase(codecName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 호출 정보 형식 : " + codecName));
+    }
+
+    public byte[] encode(RideCallRequestDto dto) {
+        return writeCodec.encode(dto);
+    }
+
+    public RideCallRequestDto decode(byte[] data) {
+        for (CallDetailCodec codec : codecs) {
+            if (codec.supports(data)) {
+                return codec.decode(data);
+            }
+        }
+
+        throw new CustomInternalException("호출 정보 변환 중 내부적인 오류가 발생하였습니다.");
+    }
+}
@@ -0,0 +1,43 @@
+package com.taxi.rideservice.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 기존 JSON 형식
+@Component
+@RequiredArgsConstructor
+public class JsonCallDetailCodec implements CallDetailCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(RideCallRequestDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (Exception e) {
+            throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
+        }
+    }
+
+    @Override
+    public RideCallRequestDto decode(byte[] data) {
+        try {
+            return objectMapper.readValue(data, RideCallRequestDto.class);
+        } catch (Exception e) {
+            throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
+        }
+    }
+
+    @Override
+    public boolean supports(byte[] data) {
+        return data.length > 0 && data[0] == '{';
+    }
+}
@@ -0,0 +1,93 @@
+package com.taxi.rideservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads; // 가상 스레드 실행 모드 (Java 21 이상)
+
+    // 셀 단위 Geo 키 병렬 조회
+    // 큐가 가득 차면 조회 요청 스레드에서 직접 실행 (거절로 호출 목록 조회가 실패하지 않도록)
+    @Bean
+    public AsyncTaskExecutor callShardExecutor(@Value("${ride.call-shard.query-threads:8}") int threads) {
+        if (VirtualThreads.isActive(virtualThreads)) {
+            return VirtualThreads.executor("call-shard-", threads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 50);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("call-shard-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // user-service 개별 조회 (승객, 기사 조회를 동시에 수행)
+    // 큐가 가득 차면 거절(TaskRejectedException)되어 요청이 바로 실패하므로 대기 시간이 무한정 늘어나지 않음
+    // 가상 스레드 모드에서는 큐 대신 동시 조회 개수만 제한
+    @Bean
+    public AsyncTaskExecutor userLookupExecutor(@Value("${ride.user-lookup.threads:16}") int threads) {
+        if (VirtualThreads.isActive(virtualThreads)) {
+            return VirtualThreads.executor("user-lookup-", threads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 50);
+        executor.setThreadNamePrefix("user-lookup-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 헤지 요청을 사용하는 user-service 조회 (첫 요청과 헤지 요청을 함께 실행하고 먼저 온 응답 사용)
+    @Bean
+    public AsyncTaskExecutor userHedgeExecutor(@Value("${ride.user-client.hedge.threads:32}") int threads) {
+        if (VirtualThreads.isActive(virtualThreads)) {
+            return VirtualThreads.executor("user-hedge-", threads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 50);
+        executor.setThreadNamePrefix("user-hedge-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 밀집 지역 배차 결과 반영 (acceptCall : user-service 조회 + DB 트랜잭션)
+    // 스케줄러 스레드에서 한 건씩 반영하지 않고 동시에 반영, 큐가 가득 차면 거절되어 다음 배치에서 다시 배정
+    @Bean
+    public AsyncTaskExecutor batchAcceptExecutor(@Value("${ride.dispatch.batch.accept-threads:8}") int threads) {
+        if (VirtualThreads.isActive(virtualThreads)) {
+            return VirtualThreads.executor("batch-accept-", threads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 50);
+        executor.setThreadNamePrefix("batch-accept-");
+        executor.initialize();
+
+        return executor;
+    }
+}
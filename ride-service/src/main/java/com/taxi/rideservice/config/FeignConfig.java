@@ -1,30 +1,26 @@
 package com.taxi.rideservice.config;
 
+import com.taxi.common.security.ServiceTokenFilter;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import com.taxi.rideservice.client.ServiceCredential;
 import feign.RequestInterceptor;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Configuration
 public class FeignConfig {
 
     @Bean
-    public RequestInterceptor requestInterceptor() {
+    public RequestInterceptor requestInterceptor(ServiceCredential serviceCredential) {
         return requestTemplate -> {
-            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            // user-service 내부 API는 서비스 토큰으로 인증 (요청 스레드 밖의 스케줄러, Kafka consumer 호출 포함)
+            requestTemplate.header(ServiceTokenFilter.HEADER, serviceCredential.token());
 
-            if (requestAttributes != null) {
-                HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+            // 헤지 요청은 로드밸런서가 같은 조회의 다른 요청과 다른 인스턴스를 고르도록 헤지 ID 전달
+            String hedgeId = HedgeRouting.currentHedgeId();
 
-                String accessToken = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-                if (accessToken != null && !accessToken.isEmpty()) {
-                    requestTemplate.header(HttpHeaders.AUTHORIZATION, accessToken);
-                }
+            if (hedgeId != null) {
+                requestTemplate.header(HedgeRouting.HEADER, hedgeId);
             }
         };
     }
@@ -0,0 +1,54 @@
+package com.taxi.rideservice.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.Properties;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    // 호출 요청(ride-request) 일괄 수신
+    // poll 단위로 받아 한 번에 저장한 뒤 offset 커밋, 파티션 수만큼 concurrency를 늘려 처리량 확장
+    // spring.kafka.listener.* 설정과 가상 스레드 실행은 Spring Boot configurer로 적용하고, batch/수동 커밋만 덮어씀
+    @Bean
+    @SuppressWarnings("unchecked")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> rideRequestListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<?, ?> consumerFactory,
+            @Value("${ride.kafka.request.concurrency:${spring.kafka.listener.concurrency:1}}") int concurrency,
+            @Value("${ride.kafka.request.max-poll-records:500}") int maxPollRecords,
+            @Value("${ride.kafka.request.retry.initial-interval-ms:1000}") long retryInitialIntervalMs,
+            @Value("${ride.kafka.request.retry.max-interval-ms:30000}") long retryMaxIntervalMs) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+
+        configurer.configure(factory, (ConsumerFactory<Object, Object>) consumerFactory);
+
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        Properties properties = new Properties();
+        properties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(properties);
+
+        // 저장에 실패한 batch는 커밋하지 않고 성공할 때까지 같은 batch를 다시 처리
+        // (기본 error handler는 재시도 횟수를 넘기면 로그만 남기고 커밋해 호출이 유실됨)
+        ExponentialBackOff backOff = new ExponentialBackOff(retryInitialIntervalMs, 2.0);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(backOff);
+        errorHandler.setAckAfterHandle(false);
+        factory.setCommonErrorHandler(errorHandler);
+
+        return factory;
+    }
+}
@@ -0,0 +1,38 @@
+package com.taxi.rideservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // 파티션 수만큼 consumer concurrency를 늘릴 수 있음
+    // 파티션을 늘리면 key와 파티션의 대응이 바뀌므로 처리 중인 운행이 없을 때 변경
+    @Value("${ride.kafka.partitions:3}")
+    private int partitions;
+
+    @Value("${ride.kafka.replication-factor:1}")
+    private short replicationFactor;
+
+    @Bean
+    public KafkaAdmin.NewTopics rideTopics() {
+        return new KafkaAdmin.NewTopics(
+                topic("ride-request"),
+                topic("ride-offer"),
+                topic("ride-accept"),
+                topic("ride-cancel"),
+                topic("ride-start"),
+                topic("ride-complete"));
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicationFactor)
+                .build();
+    }
+}
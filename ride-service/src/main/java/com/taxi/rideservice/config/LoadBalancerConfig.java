@@ -0,0 +1,11 @@
+package com.taxi.rideservice.config;
+
+import com.taxi.rideservice.balancer.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+// user-service 호출은 응답 시간 기준으로 인스턴스 선택 (느리거나 GC 중인 인스턴스를 피함)
+@Configuration
+@LoadBalancerClient(name = "user-service", configuration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,26 @@
+package com.taxi.rideservice.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+// 가상 스레드 실행 모드 (spring.threads.virtual.enabled)
+// Spring Boot와 같은 기준으로 Java 21 이상에서만 적용하고, 그 미만에서는 기존 스레드 풀을 그대로 사용
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isActive(boolean enabled) {
+        return enabled && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    // 작업마다 가상 스레드 생성, 동시 실행 개수가 concurrencyLimit을 넘으면 제출한 쪽이 대기
+    public static SimpleAsyncTaskExecutor executor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+
+        return executor;
+    }
+}
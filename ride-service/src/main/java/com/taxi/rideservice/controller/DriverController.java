@@ -2,9 +2,11 @@ package com.taxi.rideservice.controller;
 
 import com.taxi.common.core.response.CustomResponse;
 import com.taxi.common.core.response.ResponseCode;
+import com.taxi.rideservice.dto.DriverLocationUpdateDto;
 import com.taxi.rideservice.dto.DriverRegisterDto;
 import com.taxi.rideservice.dto.DriverStatusUpdateDto;
 import com.taxi.rideservice.dto.DriverUpdateDto;
+import com.taxi.rideservice.service.DriverLocationService;
 import com.taxi.rideservice.service.DriverService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class DriverController {
 
     private final DriverService driverService;
+    private final DriverLocationService driverLocationService;
 
     @PostMapping("/register")
     public ResponseEntity<CustomResponse<?>> registerDriver(@RequestBody @Valid DriverRegisterDto dto) {
@@ -38,4 +41,11 @@ public class DriverController {
 
         return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
     }
+
+    @PostMapping("/location")
+    public ResponseEntity<CustomResponse<?>> updateDriverLocation(@RequestBody @Valid DriverLocationUpdateDto dto) {
+        driverLocationService.updateLocation(dto);
+
+        return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
+    }
 }
@@ -1,9 +1,5 @@
 package com.taxi.rideservice.controller;
 
-import com.taxi.common.core.dto.DriveCompleteDto;
-import com.taxi.common.core.dto.RideAcceptDto;
-import com.taxi.common.core.dto.RideCancelDto;
-import com.taxi.common.core.dto.RideStartDto;
 import com.taxi.common.core.response.CustomResponse;
 import com.taxi.common.core.response.ResponseCode;
 import com.taxi.rideservice.dto.*;
@@ -40,32 +36,29 @@ public class RideController {
 
     @PostMapping("/accept")
     public ResponseEntity<CustomResponse<?>> acceptCall(@RequestBody @Valid CallAcceptRequestDto dto) {
-        RideAcceptDto rideInfoDto = rideService.acceptCall(dto);
-        rideProducer.sendRideAccept(rideInfoDto);
+        // 수락 이벤트는 outbox를 통해 발행
+        rideService.acceptCall(dto);
 
         return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
     }
 
     @PostMapping("/cancel/{rideId}")
     public ResponseEntity<CustomResponse<?>> cancelCall(@PathVariable Long rideId) {
-        RideCancelDto rideCancelDto = rideService.cancelRide(rideId);
-        rideProducer.sendRideCancel(rideCancelDto);
+        rideService.cancelRide(rideId);
 
         return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
     }
 
     @PostMapping("/start/{rideId}")
     public ResponseEntity<CustomResponse<?>> startRide(@PathVariable Long rideId) {
-        RideStartDto rideStartDto = rideService.startRide(rideId);
-        rideProducer.sendRideStart(rideStartDto);
+        rideService.startRide(rideId);
 
         return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
     }
 
     @PostMapping("/complete")
     public ResponseEntity<CustomResponse<?>> completeRide(@RequestBody @Valid RideCompleteDto dto) {
-        DriveCompleteDto driveCompleteDto = rideService.completeRide(dto);
-        rideProducer.sendRideComplete(driveCompleteDto);
+        rideService.completeRide(dto);
 
         return ResponseEntity.ok(CustomResponse.success(null, ResponseCode.SUCCESS));
     }
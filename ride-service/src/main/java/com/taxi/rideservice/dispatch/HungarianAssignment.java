@@ -0,0 +1,129 @@
+package com.taxi.rideservice.dispatch;
+
+import java.util.Arrays;
+
+// 최소 비용 이분 매칭 (헝가리안 알고리즘, O(n^2 * m))
+// 행(호출) 수와 열(기사) 수가 달라도 되며, 작은 쪽이 모두 배정됨
+public final class HungarianAssignment {
+
+    private HungarianAssignment() {
+    }
+
+    // cost[i][j] : i번째 행을 j번째 열에 배정하는 비용
+    // 반환 : 행마다 배정된 열 번호 (배정되지 않은 행은 -1)
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+
+        if (rows == 0) {
+            return new int[0];
+        }
+
+        int cols = cost[0].length;
+
+        if (cols == 0) {
+            int[] none = new int[rows];
+            Arrays.fill(none, -1);
+
+            return none;
+        }
+
+        // 알고리즘은 행 수 <= 열 수 일 때 동작하므로 필요하면 전치해서 계산
+        if (rows > cols) {
+            double[][] transposed = new double[cols][rows];
+
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    transposed[j][i] = cost[i][j];
+                }
+            }
+
+            int[] colToRow = solveSquareOrWide(transposed);
+            int[] result = new int[rows];
+            Arrays.fill(result, -1);
+
+            for (int j = 0; j < cols; j++) {
+                result[colToRow[j]] = j;
+            }
+
+            return result;
+        }
+
+        return solveSquareOrWide(cost);
+    }
+
+    private static int[] solveSquareOrWide(double[][] cost) {
+        int n = cost.length;
+        int m = cost[0].length;
+
+        // 1-based 인덱스 (0번은 가상의 행/열)
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] match = new int[m + 1]; // 열 -> 배정된 행
+        int[] way = new int[m + 1];
+        double[] minValue = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            match[0] = i;
+            int col = 0;
+
+            Arrays.fill(minValue, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+
+            // 증가 경로를 찾을 때까지 포텐셜을 조정하며 탐색
+            do {
+                used[col] = true;
+                int row = match[col];
+                double delta = Double.POSITIVE_INFINITY;
+                int nextCol = 0;
+
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+
+                    double reduced = cost[row - 1][j - 1] - u[row] - v[j];
+
+                    if (reduced < minValue[j]) {
+                        minValue[j] = reduced;
+                        way[j] = col;
+                    }
+
+                    if (minValue[j] < delta) {
+                        delta = minValue[j];
+                        nextCol = j;
+                    }
+                }
+
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[match[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minValue[j] -= delta;
+                    }
+                }
+
+                col = nextCol;
+            } while (match[col] != 0);
+
+            // 찾은 경로를 따라 배정을 뒤집음
+            do {
+                int prevCol = way[col];
+                match[col] = match[prevCol];
+                col = prevCol;
+            } while (col != 0);
+        }
+
+        int[] result = new int[n];
+        Arrays.fill(result, -1);
+
+        for (int j = 1; j <= m; j++) {
+            if (match[j] != 0) {
+                result[match[j] - 1] = j - 1;
+            }
+        }
+
+        return result;
+    }
+}
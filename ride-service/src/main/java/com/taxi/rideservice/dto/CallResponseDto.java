@@ -14,5 +14,6 @@ public class CallResponseDto {
     private String passengerEmail;
     private String startLocation;
     private String endLocation;
+    private Double distanceKm; // 기사 위치에서 출발지까지의 거리 (km)
 
 }
@@ -2,6 +2,7 @@ package com.taxi.rideservice.dto;
 
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -23,4 +24,8 @@ public class FindCallRequestDto {
     @DecimalMax(value = "180.0", message = "경도는 최대 180도 입니다.")
     @NotNull(message = "경도는 필수 입력 값 입니다.")
     private Double longitude;
+
+    // 조회할 최대 호출 수 (없으면 기본값 사용)
+    @Min(value = 1, message = "조회 개수는 최소 1개 입니다.")
+    private Integer limit;
 }
\ No newline at end of file
@@ -1,16 +0,0 @@
-package com.taxi.rideservice.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class RollBackDto {
-
-    private Long rideId;
-    private Long driverUserId;
-}
\ No newline at end of file
@@ -44,6 +44,10 @@ public class Driver {
     @Column(nullable = false)
     private Integer totalRides;
 
+    @Version
+    @Column(nullable = false)
+    private Long version; // 낙관적 잠금 버전 (저장 시 0, 상태 변경 시 증가 / null 이어야 새 엔티티로 저장됨)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,34 @@
+package com.taxi.rideservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 운행 상태 변경과 같은 트랜잭션에서 저장되는 발행 대기 이벤트 (OutboxRelay가 Kafka로 발행 후 삭제)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic; // 발행할 토픽
+
+    @Column(nullable = false)
+    private String eventKey; // 메시지 key (rideId)
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload; // 메시지 (ride.kafka.event-format 형식)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.taxi.rideservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// outbox 발행 권한 (한 번에 한 인스턴스만 발행해 같은 운행의 이벤트 순서 유지)
+// 권한을 가진 인스턴스가 batch마다 기간을 연장하고, 연장이 끊기면 기간이 지난 뒤 다른 인스턴스가 이어받음
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxRelayLease {
+
+    @Id
+    private String name; // 권한 이름
+
+    @Column(nullable = false)
+    private String owner; // 권한을 가진 인스턴스 id
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil; // 권한 만료 시각
+}
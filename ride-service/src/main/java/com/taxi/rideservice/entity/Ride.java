@@ -50,6 +50,13 @@ public class Ride {
     @Enumerated(EnumType.STRING)
     private RideStatus rideStatus; // 운행 상태
 
+    @Embedded
+    private RideParticipants participants; // 승객, 기사 정보 (수락 시점)
+
+    @Version
+    @Column(nullable = false)
+    private Long version; // 낙관적 잠금 버전 (저장 시 0, 상태 변경 시 증가 / null 이어야 새 엔티티로 저장됨)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -66,4 +73,8 @@ public class Ride {
     public void updateRideStatus(RideStatus rideStatus) {
         this.rideStatus = rideStatus;
     }
+
+    public void updateParticipants(RideParticipants participants) {
+        this.participants = participants;
+    }
 }
@@ -0,0 +1,56 @@
+package com.taxi.rideservice.entity;
+
+import com.taxi.common.core.dto.UserDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+// 호출 수락 시점의 승객, 기사 정보 (운행 상태 변경 이벤트를 user-service 조회 없이 만들기 위해 운행과 함께 저장)
+// 회원 정보가 바뀌면 진행 중인 운행만 갱신 (RideService.refreshParticipants)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RideParticipants {
+
+    @Column(length = 20)
+    private String passengerPhoneNumber; // 승객 전화번호
+
+    @Column(length = 50)
+    private String passengerEmail; // 승객 이메일
+
+    @Column(length = 30)
+    private String driverName; // 기사 이름
+
+    @Column(length = 20)
+    private String driverPhoneNumber; // 기사 전화번호 (회원 정보)
+
+    @Column(length = 50)
+    private String driverEmail; // 기사 이메일
+
+    public static RideParticipants of(UserDto passenger, UserDto driver) {
+        return RideParticipants.builder()
+                .passengerPhoneNumber(passenger.getPhoneNumber())
+                .passengerEmail(passenger.getEmail())
+                .driverName(driver.getName())
+                .driverPhoneNumber(driver.getPhoneNumber())
+                .driverEmail(driver.getEmail())
+                .build();
+    }
+
+    public RideParticipants withPassenger(UserDto passenger) {
+        return toBuilder()
+                .passengerPhoneNumber(passenger.getPhoneNumber())
+                .passengerEmail(passenger.getEmail())
+                .build();
+    }
+
+    public RideParticipants withDriver(UserDto driver) {
+        return toBuilder()
+                .driverName(driver.getName())
+                .driverPhoneNumber(driver.getPhoneNumber())
+                .driverEmail(driver.getEmail())
+                .build();
+    }
+}
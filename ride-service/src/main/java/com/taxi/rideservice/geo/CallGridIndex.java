@@ -0,0 +1,195 @@
+package com.taxi.rideservice.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 대기 중인 호출의 출발지를 위경도 격자 셀 단위로 보관하는 인메모리 인덱스
+// Redis(ride:request)가 원본이며, 이 인덱스는 조회 부하를 줄이기 위한 사본
+@Component
+public class CallGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    @Value("${ride.call-index.cell-size-degree:0.01}")
+    private double cellSizeDegree; // 셀 한 변의 크기 (0.01도 ≒ 1.1km)
+
+    private final Map<Long, Map<String, CallLocation>> cells = new ConcurrentHashMap<>();
+    private final Map<String, CallLocation> members = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // 호출 등록 (같은 승객이 다시 호출하면 위치를 갱신)
+    public void upsert(String passengerEmail, double latitude, double longitude) {
+        long cell = cellOf(latitude, longitude);
+
+        members.compute(passengerEmail, (email, previous) -> {
+            if (previous != null && previous.getCell() != cell) {
+                removeFromCell(previous.getCell(), email);
+            }
+
+            CallLocation location = new CallLocation(email, latitude, longitude, cell, System.currentTimeMillis());
+            cells.compute(cell, (key, locations) -> {
+                Map<String, CallLocation> target = locations == null ? new ConcurrentHashMap<>() : locations;
+                target.put(email, location);
+
+                return target;
+            });
+
+            return location;
+        });
+    }
+
+    // 호출 삭제 (수락, 만료 등)
+    public void remove(String passengerEmail) {
+        if (passengerEmail == null) {
+            return;
+        }
+
+        members.computeIfPresent(passengerEmail, (email, previous) -> {
+            removeFromCell(previous.getCell(), email);
+
+            return null;
+        });
+    }
+
+    // 등록된 지 오래된 호출 삭제 (만료된 호출), 삭제한 개수 반환
+    public int removeIndexedBefore(long cutoffMillis) {
+        int removed = 0;
+
+        for (CallLocation location : members.values()) {
+            if (location.getIndexedAt() >= cutoffMillis) {
+                continue;
+            }
+
+            // 그 사이 다시 등록된 호출은 유지
+            CallLocation current = members.computeIfPresent(location.getPassengerEmail(), (email, previous) -> {
+                if (previous.getIndexedAt() >= cutoffMillis) {
+                    return previous;
+                }
+
+                removeFromCell(previous.getCell(), email);
+
+                return null;
+            });
+
+            if (current == null) {
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    // 중심 좌표 기준 반경(km) 이내의 호출 목록 (주변 셀만 조회)
+    public List<CallLocation> findWithin(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        long minRow = rowOf(Math.max(latitude - latDelta, -90.0));
+        long maxRow = rowOf(Math.min(latitude + latDelta, 90.0));
+        long minCol = colOf(Math.max(longitude - lonDelta, -180.0));
+        long maxCol = colOf(Math.min(longitude + lonDelta, 180.0));
+
+        List<CallLocation> result = new ArrayList<>();
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<String, CallLocation> cell = cells.get(row * columnCount() + col);
+
+                if (cell == null) {
+                    continue;
+                }
+
+                for (CallLocation location : cell.values()) {
+                    if (distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude()) <= radiusKm) {
+                        result.add(location);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // 중심 좌표 기준 반경(km) 이내에서 가까운 순으로 최대 limit개의 호출
+    public List<NearbyCall> findNearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 지금까지 찾은 것 중 가장 먼 호출이 맨 앞에 오도록 (limit개만 유지)
+        PriorityQueue<NearbyCall> nearest = new PriorityQueue<>(Comparator.comparingDouble(NearbyCall::getDistanceKm).reversed());
+
+        for (CallLocation location : findWithin(latitude, longitude, radiusKm)) {
+            double distance = distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+
+            if (nearest.size() < limit) {
+                nearest.add(new NearbyCall(location.getPassengerEmail(), distance));
+            } else if (distance < nearest.peek().getDistanceKm()) {
+                nearest.poll();
+                nearest.add(new NearbyCall(location.getPassengerEmail(), distance));
+            }
+        }
+
+        List<NearbyCall> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(NearbyCall::getDistanceKm));
+
+        return result;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    // Redis로부터 재구성이 끝나야 조회에 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    // 두 좌표 사이의 거리 (haversine, km)
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeFromCell(long cell, String passengerEmail) {
+        cells.computeIfPresent(cell, (key, locations) -> {
+            locations.remove(passengerEmail);
+
+            return locations.isEmpty() ? null : locations;
+        });
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return rowOf(latitude) * columnCount() + colOf(longitude);
+    }
+
+    private long rowOf(double latitude) {
+        return (long) Math.floor((latitude + 90.0) / cellSizeDegree);
+    }
+
+    private long colOf(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / cellSizeDegree);
+    }
+
+    private long columnCount() {
+        return (long) Math.ceil(360.0 / cellSizeDegree) + 1;
+    }
+}
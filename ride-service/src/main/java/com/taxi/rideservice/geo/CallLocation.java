@@ -0,0 +1,16 @@
+package com.taxi.rideservice.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CallLocation {
+
+    private final String passengerEmail; // 승객 이메일
+    private final double latitude;       // 출발지 위도
+    private final double longitude;      // 출발지 경도
+    private final long cell;             // 소속 격자 셀
+    private final long indexedAt;        // 인덱스 등록 시간 (ms)
+
+}
@@ -0,0 +1,99 @@
+package com.taxi.rideservice.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 대기 호출 Geo 키 규칙
+// single : 모든 호출을 하나의 키(ride:request)에 저장 (기존 방식)
+// cell   : 위경도 셀마다 키를 나누고 해시 태그({행:열})로 Redis Cluster 샤드에 분산, 같은 셀의 Geo/만료 키는 같은 슬롯에 위치
+@Component
+public class CallShardKeys {
+
+    public static final String LEGACY_GEO_KEY = "ride:request";
+    public static final String LEGACY_EXPIRE_KEY = "ride:request:expire";
+    public static final String SHARDS_KEY = "ride:request:shards"; // 사용중인 셀 키 목록
+
+    private static final String GEO_KEY_PREFIX = "ride:request:";
+    private static final String EXPIRE_KEY_PREFIX = "ride:request:expire:";
+    private static final double KM_PER_DEGREE = 111.32;
+
+    @Value("${ride.call-shard.mode:single}")
+    private String mode;
+
+    @Value("${ride.call-shard.cell-size-degree:0.5}")
+    private double cellSizeDegree; // 셀 한 변의 크기 (0.5도 ≒ 55km)
+
+    @Value("${ride.call-shard.include-legacy:true}")
+    private boolean includeLegacy; // 이관이 끝나기 전까지 기존 키도 함께 조회
+
+    public boolean isSharded() {
+        return "cell".equalsIgnoreCase(mode);
+    }
+
+    // 출발지 좌표가 속한 Geo 키
+    public String geoKeyOf(double latitude, double longitude) {
+        if (!isSharded()) {
+            return LEGACY_GEO_KEY;
+        }
+
+        return cellKey(rowOf(latitude), colOf(longitude));
+    }
+
+    // Geo 키와 같은 슬롯에 있는 만료 키
+    public String expireKeyOf(String geoKey) {
+        if (LEGACY_GEO_KEY.equals(geoKey)) {
+            return LEGACY_EXPIRE_KEY;
+        }
+
+        return EXPIRE_KEY_PREFIX + geoKey.substring(GEO_KEY_PREFIX.length());
+    }
+
+    // 중심 좌표 기준 반경(km)을 덮는 Geo 키 목록
+    public List<String> coveringGeoKeys(double latitude, double longitude, double radiusKm) {
+        if (!isSharded()) {
+            return List.of(LEGACY_GEO_KEY);
+        }
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        long minRow = rowOf(Math.max(latitude - latDelta, -90.0));
+        long maxRow = rowOf(Math.min(latitude + latDelta, 90.0));
+        long minCol = colOf(Math.max(longitude - lonDelta, -180.0));
+        long maxCol = colOf(Math.min(longitude + lonDelta, 180.0));
+
+        List<String> keys = new ArrayList<>();
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                keys.add(cellKey(row, col));
+            }
+        }
+
+        if (includeLegacy) {
+            keys.add(LEGACY_GEO_KEY);
+        }
+
+        return keys;
+    }
+
+    // 이관 기간에는 기존 키도 함께 조회/정리
+    public boolean isIncludeLegacy() {
+        return isSharded() && includeLegacy;
+    }
+
+    private String cellKey(long row, long col) {
+        return GEO_KEY_PREFIX + "{" + row + ":" + col + "}";
+    }
+
+    private long rowOf(double latitude) {
+        return (long) Math.floor((latitude + 90.0) / cellSizeDegree);
+    }
+
+    private long colOf(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / cellSizeDegree);
+    }
+}
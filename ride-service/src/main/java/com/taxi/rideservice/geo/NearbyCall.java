@@ -0,0 +1,13 @@
+package com.taxi.rideservice.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyCall {
+
+    private final String passengerEmail; // 승객 이메일
+    private final double distanceKm;     // 기사 위치에서 출발지까지의 거리 (km)
+
+}
@@ -0,0 +1,15 @@
+package com.taxi.rideservice.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyDriver {
+
+    private final String driverEmail; // 기사 이메일
+    private final double distanceKm;  // 호출 출발지까지의 거리 (km)
+    private final double latitude;    // 기사 위도
+    private final double longitude;   // 기사 경도
+
+}
@@ -0,0 +1,171 @@
+package com.taxi.rideservice.kafka;
+
+import com.taxi.rideservice.entity.OutboxEvent;
+import com.taxi.rideservice.repository.OutboxEventRepository;
+import com.taxi.rideservice.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// outbox 테이블에 쌓인 운행 이벤트를 batch 단위로 Kafka에 발행 (요청 처리와 분리된 비동기 발행)
+// 발행 권한 확보와 조회, 발행된 이벤트 삭제는 각각 짧은 트랜잭션으로 처리하고 Kafka 발행은 트랜잭션 밖에서 처리
+// (발행을 기다리는 동안 커넥션과 잠금을 잡고 있지 않도록)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private static final String LEASE_NAME = "outbox-relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+    private final RideProducer rideProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ride.outbox.batch-size:100}")
+    private int batchSize; // 한 번에 발행할 최대 이벤트 수
+
+    @Value("${ride.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs; // batch 발행 결과를 기다릴 최대 시간
+
+    @Value("${ride.outbox.lease-ms:30000}")
+    private long leaseMs; // 발행 권한 유지 시간 (batch 발행에 걸리는 시간보다 길게)
+
+    @Value("${ride.instance-id}")
+    private String instanceId;
+
+    @Scheduled(fixedDelayString = "${ride.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+
+            // batch가 가득 찼으면 남은 이벤트가 있을 수 있으므로 이어서 발행
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.error("outbox 이벤트 발행 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = claimBatch();
+
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = publish(events);
+
+        if (!publishedIds.isEmpty()) {
+            transactionTemplate.execute(status -> {
+                outboxEventRepository.deleteAllByIdInBatch(publishedIds);
+                return null;
+            });
+        }
+
+        meterRegistry.counter("ride.outbox.published").increment(publishedIds.size());
+
+        return publishedIds.size();
+    }
+
+    // 같은 운행(key)의 이벤트는 앞 이벤트의 발행이 확인된 뒤에 다음 이벤트 발행, 다른 운행의 이벤트는 라운드마다 한 번에 발행
+    // 실패한 운행의 남은 이벤트는 보내지 않고 다음 주기에 실패한 이벤트부터 다시 발행 (재시도해도 같은 운행의 이벤트 순서 유지)
+    // 발행된 이벤트 id 반환 (운행마다 앞에서부터 연속으로 발행된 이벤트만 포함)
+    private List<Long> publish(List<OutboxEvent> events) {
+        Map<String, Deque<OutboxEvent>> pending = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            pending.computeIfAbsent(event.getEventKey(), key -> new ArrayDeque<>()).add(event);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        boolean rejected = false;
+
+        while (!pending.isEmpty() && !rejected && System.nanoTime() < deadline) {
+            Map<String, CompletableFuture<?>> results = new LinkedHashMap<>();
+
+            for (Map.Entry<String, Deque<OutboxEvent>> entry : pending.entrySet()) {
+                OutboxEvent event = entry.getValue().peek();
+                CompletableFuture<?> result = rideProducer.send(event.getTopic(), event.getEventKey(), event.getPayload());
+
+                results.put(entry.getKey(), result);
+
+                // 발행 자리가 없어 거절되면 더 보내지 않고 다음 주기에 다시 발행
+                if (result.isCompletedExceptionally()) {
+                    rejected = true;
+                    break;
+                }
+            }
+
+            for (Map.Entry<String, CompletableFuture<?>> result : results.entrySet()) {
+                Deque<OutboxEvent> queue = pending.get(result.getKey());
+                OutboxEvent event = queue.peek();
+
+                try {
+                    result.getValue().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                    publishedIds.add(event.getId());
+                    queue.poll();
+
+                    if (queue.isEmpty()) {
+                        pending.remove(result.getKey());
+                    }
+                } catch (Exception e) {
+                    log.error("outbox 이벤트 발행 실패 (id : {}) : {}", event.getId(), e.getMessage());
+                    meterRegistry.counter("ride.outbox.failed").increment();
+                    pending.remove(result.getKey());
+                }
+            }
+        }
+
+        return publishedIds;
+    }
+
+    // 발행 권한을 확보(연장)하고 발행할 batch 조회, 다른 인스턴스가 권한을 가지고 있으면 빈 목록
+    private List<OutboxEvent> claimBatch() {
+        try {
+            return transactionTemplate.execute(status -> acquireLease()
+                    ? outboxEventRepository.findRelayBatch(PageRequest.of(0, batchSize))
+                    : List.of());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 권한을 생성한 경우, 다음 주기에 다시 확인
+            return List.of();
+        }
+    }
+
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leasedUntil = now.plus(leaseMs, ChronoUnit.MILLIS);
+
+        if (outboxRelayLeaseRepository.acquire(LEASE_NAME, instanceId, now, leasedUntil) == 1) {
+            return true;
+        }
+
+        if (outboxRelayLeaseRepository.existsById(LEASE_NAME)) {
+            return false;
+        }
+
+        // 처음 발행할 때 권한 생성 (동시에 생성하면 한쪽은 키 중복으로 실패)
+        // saveAndFlush는 id가 있는 엔티티를 merge하므로 그 사이 생성된 다른 인스턴스의 권한을 덮어쓸 수 있어 INSERT로 생성
+        return outboxRelayLeaseRepository.create(LEASE_NAME, instanceId, leasedUntil) == 1;
+    }
+}
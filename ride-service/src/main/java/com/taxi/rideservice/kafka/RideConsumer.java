@@ -1,32 +1,111 @@
 package com.taxi.rideservice.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taxi.common.core.dto.RideAcceptDto;
 import com.taxi.common.core.exception.CustomInternalException;
 import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.service.BatchDispatchService;
+import com.taxi.rideservice.service.DispatchService;
 import com.taxi.rideservice.service.RideService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RideConsumer {
 
     private final RideService rideService;
+    private final DispatchService dispatchService;
+    private final BatchDispatchService batchDispatchService;
     private final ObjectMapper objectMapper;
 
+    private ObjectReader callRequestReader;
+
+    @PostConstruct
+    public void init() {
+        callRequestReader = objectMapper.readerFor(RideCallRequestDto.class);
+    }
+
     // 택시 호출 요청 consumer
-    @KafkaListener(topics = "ride-request", groupId = "taxi-consumer-group")
-    public void consumeRideRequest(String message) {
+    // poll 한 번에 받은 호출을 한 번에 변환해 Redis 파이프라인 한 번으로 저장하고, 저장이 끝나면 batch 단위로 offset 커밋
+    @KafkaListener(topics = "ride-request", groupId = "taxi-consumer-group", containerFactory = "rideRequestListenerContainerFactory")
+    public void consumeRideRequest(List<String> messages, Acknowledgment acknowledgment) {
+        log.debug("Received Messages : {}건", messages.size());
+
+        List<RideCallRequestDto> dtos = readCallRequests(messages);
+
         try {
-            log.info("Received Message : {}", message);
-            RideCallRequestDto dto = objectMapper.readValue(message, RideCallRequestDto.class);
+            rideService.saveCallRequests(dtos);
+        } catch (Exception e) {
+            // 커밋하지 않고 예외를 던져 batch 전체를 다시 처리
+            throw new CustomInternalException("호출 저장 중 내부적인 오류가 발생하였습니다.");
+        }
+
+        acknowledgment.acknowledge();
+
+        for (RideCallRequestDto dto : dtos) {
+            if (batchDispatchService.isEnabled()) {
+                // 밀집 지역 배차 모드에서는 다음 배치에서 한 번에 배정
+                batchDispatchService.enqueue(dto);
+            } else {
+                // 가까운 대기중 기사에게 호출 제안
+                dispatchService.dispatch(dto);
+            }
+        }
+    }
 
-            rideService.saveCallRequest(dto);
+    // 호출 인덱스 갱신 consumer
+    // 모든 인스턴스가 전체 호출을 받아야 하므로 인스턴스마다 고유한 group id 사용 (과거 호출은 기동 시 Redis에서 재구성)
+    // 재시작해도 같은 group을 사용하도록 인스턴스 id로 구성 (브로커에 사용하지 않는 group이 쌓이지 않도록)
+    @KafkaListener(topics = "ride-request",
+            groupId = "ride-index-${ride.instance-id}",
+            properties = "auto.offset.reset=latest",
+            batch = "true")
+    public void indexRideRequest(List<String> messages) {
+        try {
+            rideService.indexCallRequests(readCallRequests(messages));
+        } catch (Exception e) {
+            log.error("호출 인덱스 갱신 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // batch 내 메시지를 한 번에 변환, 변환할 수 없는 메시지는 건너뜀 (재처리해도 실패하므로 batch 전체를 막지 않도록)
+    private List<RideCallRequestDto> readCallRequests(List<String> messages) {
+        List<RideCallRequestDto> dtos = new ArrayList<>(messages.size());
+
+        for (String message : messages) {
+            try {
+                dtos.add(callRequestReader.readValue(message));
+            } catch (Exception e) {
+                log.error("Json to Dto 변환 시 내부적인 오류가 발생 : {}", e.getMessage());
+            }
+        }
+
+        return dtos;
+    }
+
+    // 다른 인스턴스에서 수락된 호출을 인덱스에서 삭제 (JSON, 바이너리 이벤트 모두 처리)
+    @KafkaListener(topics = "ride-accept",
+            groupId = "ride-accept-index-${ride.instance-id}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=com.taxi.common.core.codec.RideEventDeserializer"
+            })
+    public void unindexAcceptedCall(RideAcceptDto dto) {
+        try {
+            rideService.unindexCallRequest(dto.getPassengerEmail());
         } catch (Exception e) {
-            throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
+            log.error("호출 인덱스 갱신 중 오류 발생 : {}", e.getMessage());
         }
     }
 
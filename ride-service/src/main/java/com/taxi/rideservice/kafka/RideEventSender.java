@@ -0,0 +1,37 @@
+package com.taxi.rideservice.kafka;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// outbox 에 저장된 운행 이벤트(JSON 또는 바이너리)를 그대로 발행
+// 기본 producer 설정에서 value serializer 만 바꾼 template 을 사용
+// (KafkaTemplate 빈으로 등록하면 Boot 기본 KafkaTemplate 이 생성되지 않으므로 내부에서만 사용)
+@Component
+public class RideEventSender {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @SuppressWarnings("unchecked")
+    public RideEventSender(ProducerFactory<?, ?> producerFactory) {
+        Map<String, Object> overrides = Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        this.kafkaTemplate = new KafkaTemplate<>((ProducerFactory<String, byte[]>) producerFactory, overrides);
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, byte[] payload) {
+        return kafkaTemplate.send(topic, key, payload);
+    }
+
+    @PreDestroy
+    public void close() {
+        kafkaTemplate.destroy();
+    }
+}
@@ -2,101 +2,163 @@ package com.taxi.rideservice.kafka;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.taxi.common.core.dto.DriveCompleteDto;
-import com.taxi.common.core.dto.RideAcceptDto;
-import com.taxi.common.core.dto.RideCancelDto;
-import com.taxi.common.core.dto.RideStartDto;
+import com.taxi.common.core.dto.RideOfferDto;
 import com.taxi.common.core.exception.CustomInternalException;
 import com.taxi.rideservice.dto.RideCallRequestDto;
-import com.taxi.rideservice.dto.RollBackDto;
-import com.taxi.rideservice.service.RideService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RideProducer {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RideEventSender rideEventSender;
     private final ObjectMapper objectMapper;
-    private final RideService rideService;
+    private final MeterRegistry meterRegistry;
     private static final String TOPIC = "ride-request";
 
+    @Value("${ride.kafka.producer.max-in-flight:1000}")
+    private int maxInFlight; // 응답을 기다리는 최대 메시지 수 (브로커가 느려지면 여기서 대기 또는 거절)
+
+    @Value("${ride.kafka.producer.request-wait-ms:50}")
+    private long requestWaitMs; // 호출 요청이 발행 자리를 기다리는 최대 시간 (초과하면 요청 거절)
+
+    @Value("${ride.kafka.producer.queue-wait-ms:5000}")
+    private long queueWaitMs; // outbox 이벤트가 발행 자리를 기다리는 최대 시간
+
+    private Semaphore inFlight;
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    // 호출 요청 key 셀 크기 (배치 배정 구역과 같은 크기로 한 구역의 호출이 같은 파티션, 같은 인스턴스에 모이도록)
+    @Value("${ride.dispatch.batch.zone-size-degree:0.02}")
+    private double requestKeyCellSizeDegree;
+
+    @PostConstruct
+    public void init() {
+        inFlight = new Semaphore(maxInFlight);
+        meterRegistry.gauge("ride.kafka.in-flight", inFlightCount);
+    }
+
     // 택시 호출 요청 producer
+    // 브로커 응답을 기다리지 않고 반환, 발행 자리가 나지 않으면 요청 스레드를 붙잡지 않고 바로 거절
     public void sendRideRequest(RideCallRequestDto dto) {
-        try {
-            String rideRequestJson = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send(TOPIC, rideRequestJson);
+        String rideRequestJson;
 
-            log.info("Success To Send : {}", rideRequestJson);
+        try {
+            rideRequestJson = objectMapper.writeValueAsString(dto);
         } catch (JsonProcessingException e) {
             log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
             throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
         }
+
+        if (!acquire(TOPIC, requestWaitMs)) {
+            log.error("발행 대기 중인 메시지가 많아 호출 요청 거절");
+            throw new CustomInternalException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        publish(TOPIC, () -> kafkaTemplate.send(TOPIC, requestKeyOf(dto), rideRequestJson))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("호출 요청 발행 실패 ({}) : {}", dto.getPassengerEmail(), e.getMessage());
+                    }
+                });
     }
 
-    // 택시 호출 수락 producer
-    public void sendRideAccept(RideAcceptDto dto) {
+    // 근처 기사에게 호출 제안 producer
+    // 제안은 다음 라운드에서 다시 보내므로 발행 자리가 없으면 기다리지 않고 버림
+    public void sendRideOffer(RideOfferDto dto) {
         try {
-            String rideInfo = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send("ride-accept", rideInfo);
-        } catch (JsonProcessingException e) {
-            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+            String offer = objectMapper.writeValueAsString(dto);
 
-            // 롤백 처리 (ride 삭제 및 운행 상태 변경)
-            RollBackDto rollBackDto = new RollBackDto(dto.getRideId(), dto.getDriverUserId());
+            if (!acquire("ride-offer", 0)) {
+                return;
+            }
 
-            rideService.rollBackRide(rollBackDto);
+            publish("ride-offer", () -> kafkaTemplate.send("ride-offer", dto.getPassengerEmail(), offer));
+        } catch (JsonProcessingException e) {
+            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+        }
+    }
 
-            throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
+    // outbox 이벤트 발행 (발행 결과는 OutboxRelay에서 batch 단위로 확인)
+    // relay는 별도 스레드이므로 발행 자리가 날 때까지 기다림
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, byte[] payload) {
+        if (!acquire(topic, queueWaitMs)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("발행 대기 시간 초과 : " + topic));
         }
+
+        return publish(topic, () -> rideEventSender.send(topic, key, payload));
     }
 
-    // 택시 호출 취소 producer
-    public void sendRideCancel(RideCancelDto dto) {
+    // 발행 자리 확보 (응답을 기다리는 메시지가 maxInFlight 미만일 때까지 최대 waitMs 대기)
+    private boolean acquire(String topic, long waitMs) {
         try {
-            String info = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send("ride-cancel", info);
-        } catch (JsonProcessingException e) {
-            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
-
-            // 롤백 처리 (ride 삭제 및 운행 상태 변경)
-            RollBackDto rollBackDto = new RollBackDto(dto.getRideId(), dto.getDriverUserId());
+            if (inFlight.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                inFlightCount.incrementAndGet();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
 
-            rideService.rollBackRide(rollBackDto);
+        meterRegistry.counter("ride.kafka.send.rejected", "topic", topic).increment();
 
-            throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
-        }
+        return false;
     }
 
-    // 택시 운행 시작 producer
-    public void sendRideStart(RideStartDto dto) {
+    // 발행 후 완료 콜백에서 자리 반환 및 토픽별 지연 시간, 실패 기록
+    private <T> CompletableFuture<T> publish(String topic, Supplier<CompletableFuture<T>> sender) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> future;
+
         try {
-            String info = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send("ride-start", info);
-        } catch (JsonProcessingException e) {
-            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+            future = sender.get();
+        } catch (Exception e) {
+            // 메타데이터 조회 시간 초과 등 send 호출 자체가 실패한 경우
+            future = CompletableFuture.failedFuture(e);
+        }
 
-            rideService.rollBackStartRide(dto);
+        return future.whenComplete((result, e) -> {
+            inFlight.release();
+            inFlightCount.decrementAndGet();
 
-            throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
-        }
-    }
+            Timer.builder("ride.kafka.send")
+                    .tag("topic", topic)
+                    .tag("result", e == null ? "success" : "failure")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
-    // 택시 운행 종료 producer
-    public void sendRideComplete(DriveCompleteDto dto) {
-        try {
-            String info = objectMapper.writeValueAsString(dto);
-            kafkaTemplate.send("ride-complete", info);
-        } catch (JsonProcessingException e) {
-            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
 
-            rideService.rollBackCompleteRide(dto);
+                meterRegistry.counter("ride.kafka.send.failed", "topic", topic, "exception", cause.getClass().getSimpleName()).increment();
+            }
+        });
+    }
 
-            throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
-        }
+    // 호출 요청 key (출발지가 속한 셀)
+    private String requestKeyOf(RideCallRequestDto dto) {
+        long row = (long) Math.floor((dto.getStartLatitude() + 90.0) / requestKeyCellSizeDegree);
+        long col = (long) Math.floor((dto.getStartLongitude() + 180.0) / requestKeyCellSizeDegree);
+
+        return row + ":" + col;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.taxi.rideservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.dto.UserChangedDto;
+import com.taxi.rideservice.client.UserInfoCache;
+import com.taxi.rideservice.service.RideService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventConsumer {
+
+    private final UserInfoCache userInfoCache;
+    private final RideService rideService;
+    private final ObjectMapper objectMapper;
+
+    // 회원 정보가 바뀌면 캐시에서 삭제 (인스턴스마다 캐시를 가지므로 모든 인스턴스가 받음)
+    @KafkaListener(topics = "user-changed",
+            groupId = "ride-user-cache-${ride.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void evictChangedUser(String message) {
+        try {
+            UserChangedDto dto = objectMapper.readValue(message, UserChangedDto.class);
+
+            userInfoCache.invalidate(dto.getUserId(), dto.getEmail());
+        } catch (Exception e) {
+            log.error("회원 정보 캐시 갱신 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // 진행 중인 운행의 참여자 정보 갱신 (DB 갱신이므로 한 인스턴스만 처리)
+    @KafkaListener(topics = "user-changed", groupId = "ride-participant-refresh")
+    public void refreshRideParticipants(String message) {
+        try {
+            UserChangedDto dto = objectMapper.readValue(message, UserChangedDto.class);
+
+            rideService.refreshParticipants(dto);
+        } catch (Exception e) {
+            log.error("운행 참여자 정보 갱신 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,34 @@
 package com.taxi.rideservice.repository;
 
 import com.taxi.rideservice.entity.Driver;
+import com.taxi.rideservice.enums.DriverStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface DriverRepository extends JpaRepository<Driver, Long> {
 
     Driver findByUserId(Long userId);
 
-}
\ No newline at end of file
+    // 상태별 기사를 id 순으로 일부씩 조회 (afterId 이후부터)
+    List<Driver> findByDriverStatusAndIdGreaterThanOrderById(DriverStatus driverStatus, Long afterId, Pageable pageable);
+
+    // 읽은 상태, 버전 그대로일 때만 상태 변경 (변경된 행 수 반환, 0이면 다른 요청이 먼저 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Driver d set d.driverStatus = :status, d.version = d.version + 1, d.updatedAt = CURRENT_TIMESTAMP "
+            + "where d.id = :id and d.driverStatus = :expectedStatus and d.version = :expectedVersion")
+    int updateStatus(@Param("id") Long id, @Param("expectedStatus") DriverStatus expectedStatus,
+                     @Param("expectedVersion") Long expectedVersion, @Param("status") DriverStatus status);
+
+    // 운행 중인 기사의 운행 종료 (운행횟수 +1, 대기중으로 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Driver d set d.driverStatus = com.taxi.rideservice.enums.DriverStatus.WAITING, d.totalRides = d.totalRides + 1, "
+            + "d.version = d.version + 1, d.updatedAt = CURRENT_TIMESTAMP "
+            + "where d.id = :id and d.driverStatus = com.taxi.rideservice.enums.DriverStatus.DRIVING and d.version = :expectedVersion")
+    int finishRide(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion);
+
+}
@@ -0,0 +1,17 @@
+package com.taxi.rideservice.repository;
+
+import com.taxi.rideservice.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 저장된 순서대로 발행할 이벤트 조회
+    // 발행 권한(OutboxRelayLease)을 가진 relay만 조회하므로 행 잠금 없이 읽음 (이벤트 저장을 막지 않도록)
+    @Query("select e from OutboxEvent e order by e.id")
+    List<OutboxEvent> findRelayBatch(Pageable pageable);
+
+}
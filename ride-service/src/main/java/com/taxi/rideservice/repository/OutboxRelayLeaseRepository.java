@@ -0,0 +1,25 @@
+package com.taxi.rideservice.repository;
+
+import com.taxi.rideservice.entity.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+
+    // 이미 가진 권한이거나 만료된 권한일 때만 기간 연장 (변경된 행 수 반환, 0이면 다른 인스턴스가 발행 중)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OutboxRelayLease l set l.owner = :owner, l.leasedUntil = :leasedUntil "
+            + "where l.name = :name and (l.owner = :owner or l.leasedUntil < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    // 권한 생성 (merge가 아닌 INSERT, 이미 있으면 키 중복으로 실패)
+    @Modifying
+    @Query(value = "insert into outbox_relay_lease (name, owner, leased_until) values (:name, :owner, :leasedUntil)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+}
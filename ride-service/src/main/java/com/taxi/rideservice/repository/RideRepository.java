@@ -1,7 +1,30 @@
 package com.taxi.rideservice.repository;
 
 import com.taxi.rideservice.entity.Ride;
+import com.taxi.rideservice.enums.RideStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface RideRepository extends JpaRepository<Ride, Long> {
+    List<Ride> findAllByPassengerIdAndRideStatusIn(Long passengerId, Collection<RideStatus> rideStatuses);
+    List<Ride> findAllByDriverIdAndRideStatusIn(Long driverId, Collection<RideStatus> rideStatuses);
+
+    // 읽은 상태, 버전 그대로일 때만 상태 변경 (변경된 행 수 반환, 0이면 다른 요청이 먼저 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Ride r set r.rideStatus = :status, r.version = r.version + 1, r.updatedAt = CURRENT_TIMESTAMP "
+            + "where r.id = :id and r.rideStatus = :expectedStatus and r.version = :expectedVersion")
+    int updateStatus(@Param("id") Long id, @Param("expectedStatus") RideStatus expectedStatus,
+                     @Param("expectedVersion") Long expectedVersion, @Param("status") RideStatus status);
+
+    // 운행 중인 운행 완료 (요금 저장)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Ride r set r.rideStatus = com.taxi.rideservice.enums.RideStatus.COMPLETE, r.fare = :fare, "
+            + "r.version = r.version + 1, r.updatedAt = CURRENT_TIMESTAMP "
+            + "where r.id = :id and r.rideStatus = com.taxi.rideservice.enums.RideStatus.DRIVING and r.version = :expectedVersion")
+    int completeRide(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion, @Param("fare") Integer fare);
 }
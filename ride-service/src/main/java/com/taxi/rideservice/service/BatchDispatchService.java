@@ -0,0 +1,204 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.common.core.exception.CustomBadRequestException;
+import com.taxi.rideservice.dispatch.HungarianAssignment;
+import com.taxi.rideservice.dto.CallAcceptRequestDto;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.CallGridIndex;
+import com.taxi.rideservice.geo.NearbyDriver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+// 밀집 지역 배차 (선착순 수락 대신 일정 시간 모은 호출과 기사를 구역 단위로 한 번에 배정)
+// 구역마다 픽업 거리 합이 최소가 되도록 배정하고, 배정 결과는 기존 acceptCall 로 반영
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchDispatchService {
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final RideService rideService;
+    private final DriverLocationService driverLocationService;
+    private final MeterRegistry meterRegistry;
+    private final Executor batchAcceptExecutor;
+
+    @Value("${ride.dispatch.batch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ride.dispatch.batch.zone-size-degree:0.02}")
+    private double zoneSizeDegree; // 구역 한 변의 크기 (0.02도 ≒ 2.2km)
+
+    @Value("${ride.dispatch.batch.max-pickup-km:3}")
+    private double maxPickupKm; // 이보다 먼 기사는 배정하지 않음
+
+    @Value("${ride.dispatch.batch.drivers-per-call:2}")
+    private int driversPerCall; // 구역마다 조회할 기사 수 (호출 수 기준 배수)
+
+    @Value("${ride.dispatch.batch.max-wait-ms:30000}")
+    private long maxWaitMs; // 이 시간 동안 배정되지 않은 호출은 배치에서 제외 (호출 목록 조회로만 수락)
+
+    // 승객 이메일 -> 배정 대기중인 호출
+    private final Map<String, BatchCall> pendingCalls = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 다음 배치에 포함할 호출 등록
+    public void enqueue(RideCallRequestDto dto) {
+        pendingCalls.put(dto.getPassengerEmail(), new BatchCall(dto, System.currentTimeMillis()));
+    }
+
+    // 배치 주기마다 구역별로 모인 호출 배정
+    @Scheduled(fixedDelayString = "${ride.dispatch.batch.window-ms:2000}")
+    public void dispatchBatch() {
+        if (!enabled || pendingCalls.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        // 구역 -> 호출 목록 (오래된 호출은 제외)
+        Map<Long, List<BatchCall>> zones = new HashMap<>();
+
+        for (BatchCall call : pendingCalls.values()) {
+            if (now - call.getEnqueuedAt() > maxWaitMs) {
+                pendingCalls.remove(call.getCall().getPassengerEmail(), call);
+                continue;
+            }
+
+            zones.computeIfAbsent(zoneOf(call.getCall()), zone -> new ArrayList<>()).add(call);
+        }
+
+        // 이번 배치에서 이미 배정된 기사 (이웃 구역에서 중복 배정 방지)
+        Set<String> assignedDrivers = new HashSet<>();
+        List<CompletableFuture<Void>> accepts = new ArrayList<>();
+
+        for (Map.Entry<Long, List<BatchCall>> zone : zones.entrySet()) {
+            try {
+                dispatchZone(zone.getKey(), zone.getValue(), assignedDrivers, accepts);
+            } catch (Exception e) {
+                log.error("구역 배차 중 오류 발생 : {}", e.getMessage());
+            }
+        }
+
+        // 배정 반영이 모두 끝난 뒤 다음 배치 시작 (반영 중인 기사를 다음 배치에서 다시 배정하지 않도록)
+        CompletableFuture.allOf(accepts.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void dispatchZone(long zone, List<BatchCall> calls, Set<String> assignedDrivers, List<CompletableFuture<Void>> accepts) {
+        double centerLatitude = (Math.floorDiv(zone, zoneColumnCount()) + 0.5) * zoneSizeDegree - 90.0;
+        double centerLongitude = (Math.floorMod(zone, zoneColumnCount()) + 0.5) * zoneSizeDegree - 180.0;
+
+        // 구역 중심에서 모서리까지의 거리 + 최대 픽업 거리 이내의 기사
+        double searchRadiusKm = zoneSizeDegree * KM_PER_DEGREE * Math.sqrt(2) / 2 + maxPickupKm;
+
+        List<NearbyDriver> drivers = driverLocationService
+                .findNearbyDrivers(centerLatitude, centerLongitude, searchRadiusKm, calls.size() * driversPerCall)
+                .stream()
+                .filter(driver -> !assignedDrivers.contains(driver.getDriverEmail()))
+                .collect(Collectors.toList());
+
+        if (drivers.isEmpty()) {
+            return;
+        }
+
+        // 픽업 거리 비용 행렬 (최대 픽업 거리를 넘으면 사실상 배정하지 않도록 큰 비용)
+        double unreachable = maxPickupKm * 1000;
+        double[][] cost = new double[calls.size()][drivers.size()];
+
+        for (int i = 0; i < calls.size(); i++) {
+            RideCallRequestDto call = calls.get(i).getCall();
+
+            for (int j = 0; j < drivers.size(); j++) {
+                NearbyDriver driver = drivers.get(j);
+                double distanceKm = CallGridIndex.distanceKm(call.getStartLatitude(), call.getStartLongitude(),
+                        driver.getLatitude(), driver.getLongitude());
+
+                cost[i][j] = distanceKm <= maxPickupKm ? distanceKm : unreachable;
+            }
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int[] assignment = HungarianAssignment.solve(cost);
+        sample.stop(meterRegistry.timer("ride.dispatch.batch.solve"));
+
+        for (int i = 0; i < calls.size(); i++) {
+            int j = assignment[i];
+
+            if (j < 0 || cost[i][j] >= unreachable) {
+                continue;
+            }
+
+            BatchCall batchCall = calls.get(i);
+            String passengerEmail = batchCall.getCall().getPassengerEmail();
+            String driverEmail = drivers.get(j).getDriverEmail();
+
+            assignedDrivers.add(driverEmail);
+            pendingCalls.remove(passengerEmail, batchCall);
+
+            try {
+                // 배정 반영은 별도 스레드에서 동시에 수행 (스케줄러 스레드를 user-service 조회, DB 작업으로 묶지 않음)
+                accepts.add(CompletableFuture.runAsync(() -> accept(batchCall, driverEmail), batchAcceptExecutor));
+            } catch (RejectedExecutionException e) {
+                // 반영 대기열이 가득 차면 다음 배치에서 다시 배정
+                log.warn("배치 배정 반영 대기열 초과 : {}", passengerEmail);
+                pendingCalls.putIfAbsent(passengerEmail, batchCall);
+            }
+        }
+    }
+
+    private void accept(BatchCall batchCall, String driverEmail) {
+        String passengerEmail = batchCall.getCall().getPassengerEmail();
+
+        try {
+            // 기존 수락 흐름과 같은 상태 전이 (호출 선점, 기사 상태 확인, 운행 저장, 수락 이벤트 outbox 저장)
+            rideService.acceptCall(new CallAcceptRequestDto(passengerEmail, driverEmail));
+
+            meterRegistry.counter("ride.dispatch.batch.assigned").increment();
+        } catch (CustomBadRequestException e) {
+            // 이미 수락된 호출이거나 기사가 대기중이 아님
+            // 호출이 남아있으면 (기사 문제로 되돌려진 경우) 다음 배치에서 다시 배정
+            if (rideService.isCallPending(passengerEmail)) {
+                pendingCalls.putIfAbsent(passengerEmail, batchCall);
+            }
+        } catch (Exception e) {
+            log.error("배치 배정 반영 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    private long zoneOf(RideCallRequestDto call) {
+        long row = (long) Math.floor((call.getStartLatitude() + 90.0) / zoneSizeDegree);
+        long col = (long) Math.floor((call.getStartLongitude() + 180.0) / zoneSizeDegree);
+
+        return row * zoneColumnCount() + col;
+    }
+
+    private long zoneColumnCount() {
+        return (long) Math.ceil(360.0 / zoneSizeDegree) + 1;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class BatchCall {
+
+        private final RideCallRequestDto call; // 호출 정보
+        private final long enqueuedAt;         // 배치 등록 시간 (ms)
+
+    }
+}
@@ -0,0 +1,114 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.codec.CallDetailCodecs;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.CallShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 대기 호출 상세 정보(ride:detail:<승객 이메일>) 저장소
+@Component
+@RequiredArgsConstructor
+public class CallDetailStore {
+
+    public static final String DETAIL_KEY_PREFIX = "ride:detail:";
+
+    private final RedisTemplate<String, byte[]> callDetailRedisTemplate;
+    private final CallDetailCodecs callDetailCodecs;
+    private final CallShardKeys callShardKeys;
+
+    // 호출 선점 스크립트 (호출이 남아있으면 상세 정보를 반환하며 삭제 / 없으면 nil)
+    // 단일 키(single) 모드 : 상세 정보, Geo 정보, 만료 정보를 한 번에 삭제
+    private static final RedisScript<byte[]> CLAIM_CALL_SCRIPT = new DefaultRedisScript<>(
+            "local detail = redis.call('GET', KEYS[1]) " +
+            "if not detail then return false end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('ZREM', KEYS[3], ARGV[1]) " +
+            "return detail", byte[].class);
+
+    // 셀 단위(cell) 모드 : Geo 키가 상세 정보 키와 다른 슬롯에 있을 수 있으므로 상세 정보 키만 다루고, Geo 정보는 선점 후 따로 삭제
+    private static final RedisScript<byte[]> CLAIM_DETAIL_SCRIPT = new DefaultRedisScript<>(
+            "local detail = redis.call('GET', KEYS[1]) " +
+            "if not detail then return false end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return detail", byte[].class);
+
+    // 상세 정보 저장 (유효 시간이 지나면 자동 삭제), 파이프라인 안에서 다른 명령과 함께 전송
+    public void save(RedisConnection connection, RideCallRequestDto dto, Duration ttl) {
+        connection.stringCommands().set((DETAIL_KEY_PREFIX + dto.getPassengerEmail()).getBytes(StandardCharsets.UTF_8),
+                callDetailCodecs.encode(dto), Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+    }
+
+    // 여러 승객의 상세 정보를 MGET 한 번으로 조회 (순서 유지, 없는 호출은 null)
+    public List<RideCallRequestDto> findAll(List<String> passengerEmails) {
+        List<String> keys = passengerEmails.stream()
+                .map(email -> DETAIL_KEY_PREFIX + email)
+                .collect(Collectors.toList());
+
+        List<byte[]> values = callDetailRedisTemplate.opsForValue().multiGet(keys);
+        List<RideCallRequestDto> details = new ArrayList<>(passengerEmails.size());
+
+        for (int i = 0; i < passengerEmails.size(); i++) {
+            byte[] value = values == null ? null : values.get(i);
+
+            details.add(value == null ? null : callDetailCodecs.decode(value));
+        }
+
+        return details;
+    }
+
+    // 여러 승객의 호출이 아직 남아있는지 MGET 한 번으로 확인 (순서 유지, 변환은 하지 않음)
+    public List<Boolean> existAll(List<String> passengerEmails) {
+        List<String> keys = passengerEmails.stream()
+                .map(email -> DETAIL_KEY_PREFIX + email)
+                .collect(Collectors.toList());
+
+        List<byte[]> values = callDetailRedisTemplate.opsForValue().multiGet(keys);
+        List<Boolean> exists = new ArrayList<>(passengerEmails.size());
+
+        for (int i = 0; i < passengerEmails.size(); i++) {
+            exists.add(values != null && values.get(i) != null);
+        }
+
+        return exists;
+    }
+
+    // 호출 선점 (상세 정보 조회 + 삭제), 이미 수락되었거나 없는 호출이면 null
+    // 단일 키 모드는 Geo, 만료 정보까지 한 번의 왕복으로 삭제 (셀 단위 모드는 removesGeoOnClaim() 이 false)
+    public RideCallRequestDto claim(String passengerEmail) {
+        byte[] value;
+
+        if (removesGeoOnClaim()) {
+            value = callDetailRedisTemplate.execute(CLAIM_CALL_SCRIPT,
+                    List.of(DETAIL_KEY_PREFIX + passengerEmail, CallShardKeys.LEGACY_GEO_KEY, CallShardKeys.LEGACY_EXPIRE_KEY),
+                    passengerEmail.getBytes(StandardCharsets.UTF_8));
+        } else {
+            value = callDetailRedisTemplate.execute(CLAIM_DETAIL_SCRIPT, List.of(DETAIL_KEY_PREFIX + passengerEmail));
+        }
+
+        return value == null ? null : callDetailCodecs.decode(value);
+    }
+
+    // 선점 스크립트가 Geo 정보까지 삭제하는지 (모든 키가 한 노드에 있는 단일 키 모드)
+    public boolean removesGeoOnClaim() {
+        return !callShardKeys.isSharded();
+    }
+
+    // 아직 수락되지 않은 호출인지 확인
+    public boolean exists(String passengerEmail) {
+        return Boolean.TRUE.equals(callDetailRedisTemplate.hasKey(DETAIL_KEY_PREFIX + passengerEmail));
+    }
+}
@@ -0,0 +1,95 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.geo.CallShardKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 기존 단일 Geo 키(ride:request)에 남아있는 호출을 셀 단위 키로 이관
+// 이관 중에는 ride.call-shard.include-legacy=true 로 두 키를 함께 조회하고, 이관이 끝나면 false 로 변경
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CallShardMigrationService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CallShardKeys callShardKeys;
+
+    @Value("${ride.call-shard.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Value("${ride.call-shard.migrate-batch-size:500}")
+    private int batchSize;
+
+    @Value("${ride.call.ttl-seconds:600}")
+    private long callTtlSeconds;
+
+    // 인덱스 재구성보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup && callShardKeys.isSharded()) {
+            migrateLegacyCalls();
+        }
+    }
+
+    // 기존 키의 호출을 batchSize개씩 옮기고 기존 키에서 삭제, 옮긴 개수 반환
+    public int migrateLegacyCalls() {
+        int migrated = 0;
+
+        try {
+            while (true) {
+                Set<String> members = redisTemplate.opsForZSet().range(CallShardKeys.LEGACY_GEO_KEY, 0, batchSize - 1);
+
+                if (members == null || members.isEmpty()) {
+                    break;
+                }
+
+                List<String> chunk = new ArrayList<>(members);
+                Object[] passengers = chunk.toArray();
+
+                List<Point> positions = redisTemplate.opsForGeo().position(CallShardKeys.LEGACY_GEO_KEY, chunk.toArray(new String[0]));
+                List<Double> expireTimes = redisTemplate.opsForZSet().score(CallShardKeys.LEGACY_EXPIRE_KEY, passengers);
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    Point point = positions == null ? null : positions.get(i);
+
+                    if (point == null) {
+                        continue;
+                    }
+
+                    String geoKey = callShardKeys.geoKeyOf(point.getY(), point.getX());
+                    Double expireTime = expireTimes == null ? null : expireTimes.get(i);
+
+                    redisTemplate.opsForGeo().add(geoKey, point, chunk.get(i));
+                    redisTemplate.opsForZSet().add(callShardKeys.expireKeyOf(geoKey), chunk.get(i),
+                            expireTime != null ? expireTime : System.currentTimeMillis() + callTtlSeconds * 1000);
+                    redisTemplate.opsForSet().add(CallShardKeys.SHARDS_KEY, geoKey);
+                }
+
+                redisTemplate.opsForZSet().remove(CallShardKeys.LEGACY_GEO_KEY, passengers);
+                redisTemplate.opsForZSet().remove(CallShardKeys.LEGACY_EXPIRE_KEY, passengers);
+
+                migrated += chunk.size();
+            }
+
+            log.info("기존 Geo 키 호출 이관 완료 : {}건", migrated);
+        } catch (Exception e) {
+            // 남은 호출은 include-legacy 설정으로 계속 조회되며 다음 기동 시 다시 이관
+            log.error("기존 Geo 키 호출 이관 중 오류 발생 : {}", e.getMessage());
+        }
+
+        return migrated;
+    }
+}
@@ -0,0 +1,112 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.common.core.dto.RideOfferDto;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.NearbyDriver;
+import com.taxi.rideservice.kafka.RideProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 새 호출을 가까운 대기중 기사에게 먼저 제안 (기사의 호출 목록 polling 부하 감소)
+// 제안은 일정 시간 후 만료되며, 그때까지 수락되지 않으면 다음 후보 기사에게 제안
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchService {
+
+    private final RideService rideService;
+    private final DriverLocationService driverLocationService;
+    private final RideProducer rideProducer;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${ride.dispatch.push.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ride.dispatch.push.candidates:3}")
+    private int candidates; // 한 번에 제안할 기사 수 (K)
+
+    @Value("${ride.dispatch.push.radius-km:5}")
+    private double radiusKm;
+
+    @Value("${ride.dispatch.push.offer-timeout-ms:15000}")
+    private long offerTimeoutMs;
+
+    @Value("${ride.dispatch.push.max-rounds:3}")
+    private int maxRounds;
+
+    // 승객 이메일 -> 이미 제안한 기사 목록
+    private final Map<String, Set<String>> offeredDrivers = new ConcurrentHashMap<>();
+
+    // 새 호출 배차 시작
+    public void dispatch(RideCallRequestDto dto) {
+        if (!enabled) {
+            return;
+        }
+
+        // 같은 승객이 다시 호출하면 목록을 교체하고, 이전 호출의 제안은 다음 라운드에서 중단됨
+        Set<String> offered = ConcurrentHashMap.newKeySet();
+
+        offeredDrivers.put(dto.getPassengerEmail(), offered);
+        offerNextCandidates(dto, offered, 1);
+    }
+
+    // offered : 이 호출을 시작할 때 등록한 목록 (등록된 목록이 다르면 다른 호출로 대체된 것)
+    private void offerNextCandidates(RideCallRequestDto dto, Set<String> offered, int round) {
+        String passengerEmail = dto.getPassengerEmail();
+
+        try {
+            // 다른 호출로 대체되었으면 새 호출의 목록은 그대로 두고 종료
+            if (offeredDrivers.get(passengerEmail) != offered) {
+                return;
+            }
+
+            // 이미 수락되었으면 종료
+            if (round > maxRounds || !rideService.isCallPending(passengerEmail)) {
+                offeredDrivers.remove(passengerEmail, offered);
+                return;
+            }
+
+            // 이전 라운드에서 제안한 기사를 제외하고 가까운 순으로 K명
+            List<NearbyDriver> nextDrivers = driverLocationService
+                    .findNearbyDrivers(dto.getStartLatitude(), dto.getStartLongitude(), radiusKm, candidates + offered.size())
+                    .stream()
+                    .filter(driver -> !offered.contains(driver.getDriverEmail()))
+                    .limit(candidates)
+                    .collect(Collectors.toList());
+
+            if (nextDrivers.isEmpty()) {
+                log.info("제안할 수 있는 기사가 없음 : {} ({}회차)", passengerEmail, round);
+                offeredDrivers.remove(passengerEmail, offered);
+                return;
+            }
+
+            LocalDateTime offerTime = LocalDateTime.now();
+            LocalDateTime expireTime = offerTime.plus(Duration.ofMillis(offerTimeoutMs));
+
+            for (NearbyDriver driver : nextDrivers) {
+                offered.add(driver.getDriverEmail());
+
+                rideProducer.sendRideOffer(new RideOfferDto(passengerEmail, driver.getDriverEmail(),
+                        dto.getStartLocation(), dto.getEndLocation(), driver.getDistanceKm(), offerTime, expireTime));
+            }
+
+            // 제안 만료 후 다음 후보에게 제안
+            taskScheduler.schedule(() -> offerNextCandidates(dto, offered, round + 1), Instant.now().plusMillis(offerTimeoutMs));
+        } catch (Exception e) {
+            log.error("호출 제안 중 오류 발생 : {}", e.getMessage());
+            offeredDrivers.remove(passengerEmail, offered);
+        }
+    }
+}
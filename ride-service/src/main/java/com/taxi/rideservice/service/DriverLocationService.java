@@ -0,0 +1,181 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.dto.DriverLocationUpdateDto;
+import com.taxi.rideservice.geo.NearbyDriver;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 대기중(WAITING) 기사의 실시간 위치 관리
+// 위치 갱신은 메모리에 최신 값만 모아두었다가 주기적으로 Redis Geo(driver:location)에 일괄 반영 (MySQL은 사용하지 않음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DriverLocationService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public static final String LOCATION_KEY = "driver:location";
+    public static final String LAST_SEEN_KEY = "driver:location:seen";
+    public static final String WAITING_KEY = "driver:waiting";
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // 위치 반영 스크립트 (ARGV : 갱신 시간, 이후 이메일/경도/위도 반복)
+    // 대기중 확인과 GEOADD, ZADD를 한 번에 처리해 확인 직후 배차된(대기 해제) 기사의 위치가 다시 등록되지 않도록 함
+    private static final RedisScript<Long> FLUSH_WAITING_SCRIPT = new DefaultRedisScript<>(
+            "local written = 0 " +
+            "for i = 2, #ARGV, 3 do " +
+            "  if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then " +
+            "    redis.call('GEOADD', KEYS[2], ARGV[i + 1], ARGV[i + 2], ARGV[i]) " +
+            "    redis.call('ZADD', KEYS[3], ARGV[1], ARGV[i]) " +
+            "    written = written + 1 " +
+            "  end " +
+            "end " +
+            "return written", Long.class);
+
+    @Value("${ride.driver-location.stale-after-ms:30000}")
+    private long staleAfterMs; // 마지막 갱신 후 이 시간이 지나면 위치 삭제
+
+    @Value("${ride.driver-location.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    // 기사 이메일 -> 마지막으로 받은 위치 (같은 기사의 갱신은 덮어씀)
+    private final Map<String, Point> pendingLocations = new ConcurrentHashMap<>();
+
+    // 위치 갱신 요청 (메모리에만 반영)
+    public void updateLocation(DriverLocationUpdateDto dto) {
+        pendingLocations.put(dto.getEmail(), new Point(dto.getLongitude(), dto.getLatitude()));
+    }
+
+    // 모아둔 위치를 Redis에 반영 (대기중인 기사만)
+    @Scheduled(fixedDelayString = "${ride.driver-location.flush-interval-ms:1000}")
+    public void flushLocations() {
+        if (pendingLocations.isEmpty()) {
+            return;
+        }
+
+        // 반영할 위치를 꺼내면서 버퍼에서 제거 (그 사이 새로 들어온 갱신은 남겨두고 다음 주기에 반영)
+        Map<String, Point> snapshot = new HashMap<>();
+
+        for (Map.Entry<String, Point> entry : pendingLocations.entrySet()) {
+            if (pendingLocations.remove(entry.getKey(), entry.getValue())) {
+                snapshot.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<String> emails = new ArrayList<>(snapshot.keySet());
+        String now = String.valueOf(System.currentTimeMillis());
+        long written = 0;
+
+        try {
+            for (int from = 0; from < emails.size(); from += CHUNK_SIZE) {
+                List<String> chunk = emails.subList(from, Math.min(from + CHUNK_SIZE, emails.size()));
+                List<String> args = new ArrayList<>(chunk.size() * 3 + 1);
+
+                args.add(now);
+
+                for (String email : chunk) {
+                    Point point = snapshot.get(email);
+
+                    args.add(email);
+                    args.add(String.valueOf(point.getX()));
+                    args.add(String.valueOf(point.getY()));
+                }
+
+                // 대기중인 기사만 GEOADD, ZADD (여러 기사를 한 번에 반영)
+                Long count = redisTemplate.execute(FLUSH_WAITING_SCRIPT, List.of(WAITING_KEY, LOCATION_KEY, LAST_SEEN_KEY), args.toArray());
+                written += count == null ? 0 : count;
+            }
+        } catch (Exception e) {
+            log.error("기사 위치 반영 중 오류 발생 : {}", e.getMessage());
+        }
+
+        meterRegistry.counter("ride.driver-location.received").increment(snapshot.size());
+        meterRegistry.counter("ride.driver-location.written").increment(written);
+    }
+
+    // 일정 시간 위치 갱신이 없는 기사 삭제 (한 번에 일부씩)
+    @Scheduled(fixedDelayString = "${ride.driver-location.sweep-interval-ms:5000}")
+    public void sweepStaleLocations() {
+        try {
+            double staleBefore = System.currentTimeMillis() - staleAfterMs;
+
+            Set<String> stale = redisTemplate.opsForZSet().rangeByScore(LAST_SEEN_KEY, 0, staleBefore, 0, sweepBatchSize);
+
+            if (stale == null || stale.isEmpty()) {
+                return;
+            }
+
+            Object[] members = stale.toArray();
+
+            redisTemplate.opsForZSet().remove(LOCATION_KEY, members);
+            redisTemplate.opsForZSet().remove(LAST_SEEN_KEY, members);
+
+            meterRegistry.counter("ride.driver-location.expired").increment(members.length);
+        } catch (Exception e) {
+            log.error("오래된 기사 위치 삭제 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // 좌표 기준 반경(km) 이내의 대기중인 기사를 가까운 순으로 최대 limit명 조회
+    public List<NearbyDriver> findNearbyDrivers(double latitude, double longitude, double radiusKm, int limit) {
+        RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs.newGeoRadiusArgs()
+                .includeDistance()
+                .includeCoordinates()
+                .sortAscending()
+                .limit(limit);
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo()
+                .radius(LOCATION_KEY, new Circle(new Point(longitude, latitude), new Distance(radiusKm, Metrics.KILOMETERS)), args);
+
+        if (results == null) {
+            return List.of();
+        }
+
+        return results.getContent().stream()
+                .map(result -> new NearbyDriver(result.getContent().getName(), result.getDistance().getValue(),
+                        result.getContent().getPoint().getY(), result.getContent().getPoint().getX()))
+                .collect(Collectors.toList());
+    }
+
+    // 대기중으로 변경된 기사 (위치 갱신 허용)
+    public void markWaiting(String email) {
+        redisTemplate.opsForSet().add(WAITING_KEY, email);
+    }
+
+    // 대기중인 기사 일괄 등록 (기동 시 재구성)
+    public void markAllWaiting(List<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForSet().add(WAITING_KEY, emails.toArray(new String[0]));
+    }
+
+    // 대기중이 아닌 기사 (위치 갱신 차단 및 위치 삭제)
+    public void markUnavailable(String email) {
+        pendingLocations.remove(email);
+
+        redisTemplate.opsForSet().remove(WAITING_KEY, email);
+        redisTemplate.opsForZSet().remove(LOCATION_KEY, email);
+        redisTemplate.opsForZSet().remove(LAST_SEEN_KEY, email);
+    }
+}
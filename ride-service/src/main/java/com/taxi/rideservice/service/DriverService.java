@@ -2,7 +2,7 @@ package com.taxi.rideservice.service;
 
 import com.taxi.common.core.dto.UserDto;
 import com.taxi.common.core.exception.CustomBadRequestException;
-import com.taxi.rideservice.client.UserServiceClient;
+import com.taxi.rideservice.client.UserInfoCache;
 import com.taxi.rideservice.dto.DriverRegisterDto;
 import com.taxi.rideservice.dto.DriverStatusUpdateDto;
 import com.taxi.rideservice.dto.DriverUpdateDto;
@@ -11,8 +11,16 @@ import com.taxi.rideservice.enums.DriverStatus;
 import com.taxi.rideservice.repository.DriverRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +28,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class DriverService {
 
     private final DriverRepository driverRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserInfoCache userInfoCache;
+    private final DriverLocationService driverLocationService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int WAITING_REBUILD_CHUNK_SIZE = 500;
 
     // 기사(차량) 추가 정보 저장
     @Transactional
@@ -57,15 +69,77 @@ public class DriverService {
     }
 
     // 기사(차량) 상태 수정
-    @Transactional
     public void updateDriverStatus(DriverStatusUpdateDto dto) {
-        Driver driver = getDriver(dto.getEmail());
+        DriverStatus driverStatus = DriverStatus.valueOf(dto.getDriverStatus());
+
+        transactionTemplate.execute(status -> {
+            Driver driver = getDriver(dto.getEmail());
 
-        driver.updateDriverStatus(DriverStatus.valueOf(dto.getDriverStatus()));
+            // 읽은 상태, 버전 그대로일 때만 변경 (운행 수락 등 다른 요청이 먼저 변경했으면 실패)
+            if (driverRepository.updateStatus(driver.getId(), driver.getDriverStatus(), driver.getVersion(), driverStatus) == 0) {
+                log.error("기사 상태 동시 변경 충돌");
+                throw new CustomBadRequestException("다른 요청이 먼저 처리되었습니다. 다시 시도해주세요.");
+            }
+
+            driver.updateDriverStatus(driverStatus);
+
+            return null;
+        });
+
+        // 대기중인 기사만 위치를 받음 (커밋된 뒤에 반영해 롤백된 변경이 Redis에 남지 않도록)
+        if (DriverStatus.WAITING.equals(driverStatus)) {
+            driverLocationService.markWaiting(dto.getEmail());
+        } else {
+            driverLocationService.markUnavailable(dto.getEmail());
+        }
+    }
+
+    // 기동 시 DB의 대기중인 기사로 위치 갱신 대상(driver:waiting) 재구성
+    // 상태가 바뀔 때만 기록하므로 배포나 Redis 초기화 후에는 이미 대기중인 기사의 위치가 반영되지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWaitingDrivers() {
+        try {
+            long afterId = 0;
+            int rebuilt = 0;
+            List<Driver> drivers;
+
+            do {
+                drivers = driverRepository.findByDriverStatusAndIdGreaterThanOrderById(DriverStatus.WAITING, afterId,
+                        PageRequest.ofSize(WAITING_REBUILD_CHUNK_SIZE));
+
+                if (drivers.isEmpty()) {
+                    break;
+                }
+
+                // Redis에는 이메일로 기록하므로 회원 정보 조회 (먼저 모두 요청해 일괄 조회로 묶음)
+                List<CompletableFuture<UserDto>> lookups = drivers.stream()
+                        .map(driver -> userInfoCache.findUserInfoById(driver.getUserId()))
+                        .toList();
+                List<String> emails = new ArrayList<>(lookups.size());
+
+                for (CompletableFuture<UserDto> lookup : lookups) {
+                    try {
+                        emails.add(UserInfoCache.join(lookup).getEmail());
+                    } catch (RuntimeException e) {
+                        log.error("대기중 기사 회원 정보 조회 실패 : {}", e.getMessage());
+                    }
+                }
+
+                driverLocationService.markAllWaiting(emails);
+
+                rebuilt += emails.size();
+                afterId = drivers.get(drivers.size() - 1).getId();
+            } while (drivers.size() == WAITING_REBUILD_CHUNK_SIZE);
+
+            log.info("대기중 기사 목록 재구성 완료 : {}명", rebuilt);
+        } catch (Exception e) {
+            // 재구성에 실패해도 기사가 다시 대기중으로 바꾸면 위치를 받음
+            log.error("대기중 기사 목록 재구성 중 오류 발생 : {}", e.getMessage());
+        }
     }
 
     private Driver getDriver(String email) {
-        UserDto userInfo = userServiceClient.getUserInfoByEmail(email);
+        UserDto userInfo = userInfoCache.getUserInfoByEmail(email);
         Driver driver = driverRepository.findByUserId(userInfo.getUserId());
 
         if (driver == null) {
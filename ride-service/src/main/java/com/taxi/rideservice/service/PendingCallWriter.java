@@ -0,0 +1,105 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.CallShardKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 대기 호출의 Geo 정보, 만료 시간, 상세 정보 변경을 파이프라인 한 번으로 전송
+// 셀 단위 샤딩 시 키마다 슬롯이 다르므로 MULTI 대신 파이프라인 사용 (여러 명령을 한 번의 왕복으로 처리)
+@Component
+@RequiredArgsConstructor
+public class PendingCallWriter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CallDetailStore callDetailStore;
+    private final CallShardKeys callShardKeys;
+    private final MeterRegistry meterRegistry;
+
+    // 호출 저장 (GEOADD + 만료 시간 ZADD + 상세 정보 SET, 샤딩 시 SADD)
+    public void saveAll(List<RideCallRequestDto> calls, Duration ttl) {
+        if (calls.isEmpty()) {
+            return;
+        }
+
+        long expireAt = System.currentTimeMillis() + ttl.toMillis();
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Set<String> geoKeys = new LinkedHashSet<>();
+
+            for (RideCallRequestDto call : calls) {
+                String geoKey = callShardKeys.geoKeyOf(call.getStartLatitude(), call.getStartLongitude());
+                byte[] member = bytes(call.getPassengerEmail());
+
+                connection.geoCommands().geoAdd(bytes(geoKey), new Point(call.getStartLongitude(), call.getStartLatitude()), member);
+
+                // 만료 시간 저장 (만료 호출 정리에 사용)
+                connection.zSetCommands().zAdd(bytes(callShardKeys.expireKeyOf(geoKey)), expireAt, member);
+
+                // 승객 상세정보 저장 (이메일, 탑승지, 목적지), 유효 시간이 지나면 자동 삭제
+                callDetailStore.save(connection, call, ttl);
+
+                geoKeys.add(geoKey);
+            }
+
+            if (callShardKeys.isSharded()) {
+                connection.setCommands().sAdd(bytes(CallShardKeys.SHARDS_KEY), geoKeys.stream().map(PendingCallWriter::bytes).toArray(byte[][]::new));
+            }
+
+            return null;
+        });
+
+        recordFlush("save", results);
+    }
+
+    // 선점한 호출을 Geo 정보와 만료 목록에서 삭제 (상세 정보는 선점 시 이미 삭제)
+    public void removeAll(List<RideCallRequestDto> calls) {
+        if (calls.isEmpty()) {
+            return;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RideCallRequestDto call : calls) {
+                String geoKey = callShardKeys.geoKeyOf(call.getStartLatitude(), call.getStartLongitude());
+
+                remove(connection, geoKey, call.getPassengerEmail());
+
+                // 이관 기간에는 기존 키에 남아있을 수 있는 호출도 삭제
+                if (callShardKeys.isIncludeLegacy() && !CallShardKeys.LEGACY_GEO_KEY.equals(geoKey)) {
+                    remove(connection, CallShardKeys.LEGACY_GEO_KEY, call.getPassengerEmail());
+                }
+            }
+
+            return null;
+        });
+
+        recordFlush("remove", results);
+    }
+
+    private void remove(RedisConnection connection, String geoKey, String passengerEmail) {
+        byte[] member = bytes(passengerEmail);
+
+        connection.zSetCommands().zRem(bytes(geoKey), member);
+        connection.zSetCommands().zRem(bytes(callShardKeys.expireKeyOf(geoKey)), member);
+    }
+
+    // 파이프라인 한 번에 보낸 명령 수
+    private void recordFlush(String operation, List<Object> results) {
+        meterRegistry.summary("ride.redis.pipeline.commands", "operation", operation).record(results.size());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
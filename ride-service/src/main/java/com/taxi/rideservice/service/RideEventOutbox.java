@@ -0,0 +1,55 @@
+package com.taxi.rideservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.codec.RideEventCodec;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.entity.OutboxEvent;
+import com.taxi.rideservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 운행 이벤트를 상태 변경과 같은 트랜잭션에서 outbox 테이블에 저장
+// 트랜잭션이 롤백되면 이벤트도 함께 사라지므로 DB와 발행된 이벤트가 어긋나지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RideEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 발행 형식 (json, binary)
+    // 소비 측(RideEventDeserializer)은 두 형식을 모두 읽으므로 소비 서비스를 먼저 배포한 뒤 binary로 전환
+    @Value("${ride.kafka.event-format:json}")
+    private String eventFormat;
+
+    // 같은 운행의 이벤트가 순서대로 발행되도록 rideId를 key로 저장
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, Long rideId, Object event) {
+        try {
+            OutboxEvent outboxEvent = OutboxEvent.builder()
+                    .topic(topic)
+                    .eventKey(String.valueOf(rideId))
+                    .payload(encode(event))
+                    .build();
+
+            outboxEventRepository.save(outboxEvent);
+        } catch (JsonProcessingException e) {
+            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+            throw new CustomInternalException("데이터 변환 중 내부적인 오류가 발생하였습니다.");
+        }
+    }
+
+    private byte[] encode(Object event) throws JsonProcessingException {
+        if ("binary".equalsIgnoreCase(eventFormat)) {
+            return RideEventCodec.encode(event);
+        }
+
+        return objectMapper.writeValueAsBytes(event);
+    }
+}
@@ -1,28 +1,54 @@
 package com.taxi.rideservice.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taxi.common.core.dto.*;
 import com.taxi.common.core.exception.CustomBadRequestException;
 import com.taxi.common.core.exception.CustomInternalException;
-import com.taxi.rideservice.client.UserServiceClient;
+import com.taxi.rideservice.client.UserInfoCache;
 import com.taxi.rideservice.dto.*;
 import com.taxi.rideservice.entity.Driver;
 import com.taxi.rideservice.entity.Ride;
+import com.taxi.rideservice.entity.RideParticipants;
 import com.taxi.rideservice.enums.DriverStatus;
 import com.taxi.rideservice.enums.RideStatus;
+import com.taxi.rideservice.geo.CallGridIndex;
+import com.taxi.rideservice.geo.CallShardKeys;
+import com.taxi.rideservice.geo.NearbyCall;
 import com.taxi.rideservice.repository.DriverRepository;
 import com.taxi.rideservice.repository.RideRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,311 +58,709 @@ public class RideService {
 
     private final RideRepository rideRepository;
     private final DriverRepository driverRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserInfoCache userInfoCache;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
-
-    private static final String GEO_KEY = "ride:request";
-    private static final String DETAIL_KEY_PREFIX = "ride:detail:";
+    private final CallDetailStore callDetailStore;
+    private final PendingCallWriter pendingCallWriter;
+    private final RideEventOutbox rideEventOutbox;
+    private final CallGridIndex callGridIndex;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final DriverLocationService driverLocationService;
+    private final CallShardKeys callShardKeys;
+    private final Executor callShardExecutor;
+
+    private static final int INDEX_REBUILD_CHUNK_SIZE = 500;
+
+    @Value("${ride.call.ttl-seconds:600}")
+    private long callTtlSeconds; // 수락되지 않은 호출의 유효 시간
+
+    @Value("${ride.accept.lookup-timeout-ms:3000}")
+    private long lookupTimeoutMs; // 호출 수락 시 승객, 기사 정보 조회 최대 대기 시간 (둘 중 느린 쪽 기준)
+
+    @Value("${ride.call.sweep-batch-size:200}")
+    private int sweepBatchSize; // 만료 호출 정리 한 번에 삭제할 최대 개수
+
+    // 대기중인 호출 수 (정리 주기마다 갱신)
+    private final AtomicLong pendingCallCount = new AtomicLong();
+
+    @Value("${ride.find.initial-radius-km:1}")
+    private double initialRadiusKm; // 처음 조회할 반경
+
+    @Value("${ride.find.max-radius-km:20}")
+    private double maxRadiusKm; // 결과가 부족할 때 넓힐 수 있는 최대 반경 (호출이 드문 지역도 찾을 수 있도록 기존 고정 반경 5km보다 넓게)
+
+    @Value("${ride.find.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${ride.find.max-limit:50}")
+    private int maxLimit;
+
+    // 만료 호출 정리 스크립트 (만료 시간이 지난 호출을 최대 ARGV[2]개만 Geo, 만료 정보에서 삭제하고 삭제한 승객 목록 반환)
+    // 다시 호출한 승객은 만료 시간이 갱신되므로 조회와 삭제를 한 번에 처리해 새 호출을 지우지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #expired == 0 then return expired end " +
+            "redis.call('ZREM', KEYS[2], unpack(expired)) " +
+            "redis.call('ZREM', KEYS[1], unpack(expired)) " +
+            "return expired", List.class);
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge("ride.call.pending", pendingCallCount);
+    }
 
     // 택시 호출
     public void saveCallRequest(RideCallRequestDto dto) {
-        try {
-            // Geo 정보 저장
-            log.info("longitude : {}, latitude : {}", dto.getStartLongitude(), dto.getStartLatitude());
-
-            redisTemplate.opsForGeo().add(GEO_KEY,
-                    new Point(dto.getStartLongitude(), dto.getStartLatitude()),
-                    dto.getPassengerEmail());
+        saveCallRequests(List.of(dto));
+    }
 
-            String key = DETAIL_KEY_PREFIX + dto.getPassengerEmail();
-            String value = objectMapper.writeValueAsString(dto);
+    // 택시 호출 여러 건을 한 번의 파이프라인으로 저장 (Geo 정보, 만료 시간, 상세 정보)
+    public void saveCallRequests(List<RideCallRequestDto> dtos) {
+        try {
+            log.debug("호출 저장 : {}건", dtos.size());
 
-            // 승객 상세정보 저장 (이메일, 탑승지, 목적지)
-            redisTemplate.opsForValue().set(key, value);
+            pendingCallWriter.saveAll(dtos, Duration.ofSeconds(callTtlSeconds));
         } catch (Exception e) {
             log.error("Json to Dto 변환 시 내부적인 오류가 발생 : {}", e.getMessage());
             throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
         }
     }
 
-    // 호출 목록 조회 (기사의 현재 위치를 받아 근처 5km 이내에 있는 호출 목록을 조회)
+    // 호출 목록 조회 (기사의 현재 위치에서 가까운 순으로 최대 limit개)
+    // 결과가 부족할 때만 반경을 단계적으로 넓혀 밀집 지역에서도 조회 범위와 응답 크기를 제한
     public List<CallResponseDto> findNearbyCall(FindCallRequestDto dto) {
-        // 5km 이내에서 호출한 승객 목록
-        List<String> passengers = redisTemplate.opsForGeo()
-                .radius(GEO_KEY, new Circle(new Point(dto.getLongitude(), dto.getLatitude()), new Distance(5, Metrics.KILOMETERS)))
-                .getContent().stream()
-                .map(result -> result.getContent().getName())
+        int limit = dto.getLimit() == null ? defaultLimit : Math.min(dto.getLimit(), maxLimit);
+        int roundTrips = 0;
+
+        double radiusKm = Math.min(initialRadiusKm, maxRadiusKm);
+        List<NearbyCall> nearest;
+
+        while (true) {
+            // 인덱스가 준비되지 않았으면 Redis Geo 조회
+            if (callGridIndex.isReady()) {
+                nearest = callGridIndex.findNearest(dto.getLatitude(), dto.getLongitude(), radiusKm, limit);
+            } else {
+                nearest = findNearestFromRedis(dto.getLatitude(), dto.getLongitude(), radiusKm, limit);
+                roundTrips++;
+            }
+
+            if (nearest.size() >= limit || radiusKm >= maxRadiusKm) {
+                break;
+            }
+
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+        }
+
+        List<CallResponseDto> calls = new ArrayList<>();
+
+        if (!nearest.isEmpty()) {
+            // 승객 상세 정보(이메일, 출발지, 목적지)를 MGET 한 번으로 조회
+            List<String> passengers = nearest.stream()
+                    .map(NearbyCall::getPassengerEmail)
+                    .collect(Collectors.toList());
+
+            List<RideCallRequestDto> details;
+
+            try {
+                details = callDetailStore.findAll(passengers);
+            } catch (Exception e) {
+                log.error("Json to Dto 변환 시 내부적인 오류가 발생 : {}", e.getMessage());
+                throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
+            }
+
+            roundTrips++;
+
+            for (int i = 0; i < details.size(); i++) {
+                RideCallRequestDto rideCallRequestDto = details.get(i);
+
+                // 조회 사이에 수락된 호출은 상세 정보가 없으므로 제외
+                if (rideCallRequestDto == null) {
+                    continue;
+                }
+
+                calls.add(new CallResponseDto(rideCallRequestDto.getPassengerEmail(), rideCallRequestDto.getStartLocation(),
+                        rideCallRequestDto.getEndLocation(), nearest.get(i).getDistanceKm()));
+            }
+        }
+
+        // 조회 한 번에 사용한 Redis 왕복 횟수
+        meterRegistry.summary("ride.find.redis.round-trips").record(roundTrips);
+
+        return calls;
+    }
+
+    // Redis Geo 에서 가까운 순으로 최대 limit개 조회
+    // 반경을 덮는 키가 여러 개면 (셀 단위 키) 병렬로 조회한 뒤 거리순으로 합침
+    private List<NearbyCall> findNearestFromRedis(double latitude, double longitude, double radiusKm, int limit) {
+        List<String> geoKeys = callShardKeys.coveringGeoKeys(latitude, longitude, radiusKm);
+
+        if (geoKeys.size() == 1) {
+            return findNearestFromGeoKey(geoKeys.get(0), latitude, longitude, radiusKm, limit);
+        }
+
+        List<CompletableFuture<List<NearbyCall>>> futures = geoKeys.stream()
+                .map(geoKey -> CompletableFuture.supplyAsync(
+                        () -> findNearestFromGeoKey(geoKey, latitude, longitude, radiusKm, limit), callShardExecutor))
                 .collect(Collectors.toList());
 
-        // 승객 이메일을 이용하여 상세 정보(이메일, 출발지, 목적지 가져오기) 반환
-        return passengers.stream()
-                .map(email -> redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + email))
-                .map(json -> {
-                    try {
-                        RideCallRequestDto rideCallRequestDto = objectMapper.readValue(json, RideCallRequestDto.class);
-
-                        return new CallResponseDto(rideCallRequestDto.getPassengerEmail(), rideCallRequestDto.getStartLocation(), rideCallRequestDto.getEndLocation());
-                    } catch (Exception e) {
-                        log.error("Json to Dto 변환 시 내부적인 오류가 발생 : {}", e.getMessage());
-                        throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
-                    }
-                })
+        return futures.stream()
+                .flatMap(future -> future.join().stream())
+                .sorted(Comparator.comparingDouble(NearbyCall::getDistanceKm))
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
-    // 택시 호출 수락
-    @Transactional
-    public RideAcceptDto acceptCall(CallAcceptRequestDto dto) {
+    // Geo 키 하나에서 가까운 순으로 최대 limit개 조회 (정렬, 개수 제한은 Redis에서 처리)
+    private List<NearbyCall> findNearestFromGeoKey(String geoKey, double latitude, double longitude, double radiusKm, int limit) {
+        RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs.newGeoRadiusArgs()
+                .includeDistance()
+                .sortAscending()
+                .limit(limit);
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo()
+                .radius(geoKey, new Circle(new Point(longitude, latitude), new Distance(radiusKm, Metrics.KILOMETERS)), args);
+
+        if (results == null) {
+            return List.of();
+        }
+
+        return results.getContent().stream()
+                .map(result -> new NearbyCall(result.getContent().getName(), result.getDistance().getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // 아직 수락되지 않은 호출인지 확인
+    public boolean isCallPending(String passengerEmail) {
+        return callDetailStore.exists(passengerEmail);
+    }
+
+    // 호출 인덱스 등록 (ride-request 토픽 수신)
+    public void indexCallRequest(RideCallRequestDto dto) {
+        callGridIndex.upsert(dto.getPassengerEmail(), dto.getStartLatitude(), dto.getStartLongitude());
+    }
+
+    // 호출 인덱스 일괄 등록 (poll 한 번에 받은 호출)
+    public void indexCallRequests(List<RideCallRequestDto> dtos) {
+        for (RideCallRequestDto dto : dtos) {
+            indexCallRequest(dto);
+        }
+    }
+
+    // 호출 인덱스 삭제 (다른 인스턴스에서 수락된 호출)
+    public void unindexCallRequest(String passengerEmail) {
+        callGridIndex.remove(passengerEmail);
+    }
+
+    // 기동 시 Redis에 남아있는 호출로 인덱스 재구성
+    // 만료 정보 도입 전에 저장된 호출은 만료 시간이 없어 정리되지 않으므로 지금부터 유효 시간 후 만료되도록 함께 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildCallIndex() {
         try {
-            String jsonData = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + dto.getPassengerEmail());
-            RideCallRequestDto rideCallRequestDto = objectMapper.readValue(jsonData, RideCallRequestDto.class);
+            double expireAt = System.currentTimeMillis() + callTtlSeconds * 1000;
 
-            // 승객의 USER ID
-            UserDto passengerInfo = userServiceClient.getUserInfoByEmail(dto.getPassengerEmail());
+            for (String geoKey : activeGeoKeys()) {
+                Set<String> members = redisTemplate.opsForZSet().range(geoKey, 0, -1);
 
-            // 기사의 USER ID
-            UserDto driverInfo = userServiceClient.getUserInfoByEmail(dto.getDriverEmail());
+                if (members == null || members.isEmpty()) {
+                    continue;
+                }
+
+                List<String> passengers = new ArrayList<>(members);
+
+                for (int from = 0; from < passengers.size(); from += INDEX_REBUILD_CHUNK_SIZE) {
+                    List<String> chunk = passengers.subList(from, Math.min(from + INDEX_REBUILD_CHUNK_SIZE, passengers.size()));
+
+                    // 만료 시간이 이미 있는 호출은 그대로 유지 (ZADD NX)
+                    Set<ZSetOperations.TypedTuple<String>> expires = chunk.stream()
+                            .map(passenger -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(passenger, expireAt))
+                            .collect(Collectors.toSet());
+                    redisTemplate.opsForZSet().addIfAbsent(callShardKeys.expireKeyOf(geoKey), expires);
+
+                    List<Point> positions = redisTemplate.opsForGeo().position(geoKey, chunk.toArray(new String[0]));
+
+                    // 목록을 읽은 뒤 수락된 호출(상세 정보 삭제)은 다시 등록하지 않음
+                    List<Boolean> pending = callDetailStore.existAll(chunk);
+
+                    for (int i = 0; i < chunk.size(); i++) {
+                        Point point = positions == null ? null : positions.get(i);
+
+                        if (point != null && Boolean.TRUE.equals(pending.get(i))) {
+                            callGridIndex.upsert(chunk.get(i), point.getY(), point.getX());
+                        }
+                    }
+                }
+            }
+
+            callGridIndex.markReady();
+            log.info("호출 인덱스 재구성 완료 : {}건", callGridIndex.size());
+        } catch (Exception e) {
+            // 재구성에 실패하면 인덱스를 사용하지 않고 Redis Geo 조회를 유지
+            log.error("호출 인덱스 재구성 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // 만료된 호출 정리 (상세 정보는 TTL로 삭제되고, Geo 정보는 여기서 조금씩 삭제)
+    @Scheduled(fixedDelayString = "${ride.call.sweep-interval-ms:5000}")
+    public void sweepExpiredCalls() {
+        try {
+            int removed = 0;
+            long pending = 0;
+
+            for (String geoKey : activeGeoKeys()) {
+                List<?> expired;
+
+                // 한 번에 sweepBatchSize개씩 삭제해 Redis를 오래 점유하지 않도록 함
+                do {
+                    expired = redisTemplate.execute(SWEEP_EXPIRED_SCRIPT, List.of(callShardKeys.expireKeyOf(geoKey), geoKey),
+                            String.valueOf(System.currentTimeMillis()), String.valueOf(sweepBatchSize));
+
+                    if (expired == null) {
+                        break;
+                    }
+
+                    for (Object passengerEmail : expired) {
+                        callGridIndex.remove(String.valueOf(passengerEmail));
+                    }
+
+                    removed += expired.size();
+                } while (expired.size() >= sweepBatchSize);
+
+                Long count = redisTemplate.opsForZSet().zCard(geoKey);
+                pending += count == null ? 0 : count;
+            }
 
-            // 기사 정보
-            Driver driver = driverRepository.findByUserId(driverInfo.getUserId());
+            // 다른 인스턴스에서 정리된 호출도 인덱스에서 삭제
+            callGridIndex.removeIndexedBefore(System.currentTimeMillis() - callTtlSeconds * 1000);
 
-            // 기사 정보가 없으면 예외처리
-            if (driver == null) {
-                log.error("호출 수락 중 기사 정보 없음");
-                throw new CustomBadRequestException("호출을 수락할 수 없습니다.");
+            if (removed > 0) {
+                meterRegistry.counter("ride.call.expired").increment(removed);
             }
 
-            // 기사 상태가 대기중이 아니면 예외처리
-            if (!DriverStatus.WAITING.equals(driver.getDriverStatus())) {
-                log.error("대기상태가 아니면 수락할 수 없음");
-                throw new CustomBadRequestException("호출을 수락할 수 없습니다.");
+            pendingCallCount.set(pending);
+        } catch (Exception e) {
+            log.error("만료 호출 정리 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // 택시 호출 수락
+    public RideAcceptDto acceptCall(CallAcceptRequestDto dto) {
+        // 호출 선점 (상세 정보 조회 + 삭제를 한 번에 수행)
+        // 다른 기사가 먼저 수락했다면 DB, user-service 조회 없이 바로 실패
+        RideCallRequestDto rideCallRequestDto = callDetailStore.claim(dto.getPassengerEmail());
+
+        if (rideCallRequestDto == null) {
+            log.error("이미 수락되었거나 존재하지 않는 호출");
+            throw new CustomBadRequestException("이미 수락되었거나 존재하지 않는 호출입니다.");
+        }
+
+        // 호출 인덱스에서 삭제
+        callGridIndex.remove(dto.getPassengerEmail());
+
+        try {
+            // 셀 단위 모드는 선점한 호출을 Geo 정보에서 따로 삭제 (상세 정보가 없으므로 그 사이 조회되어도 목록에서 제외됨)
+            // 단일 키 모드는 선점 스크립트에서 이미 삭제
+            if (!callDetailStore.removesGeoOnClaim()) {
+                pendingCallWriter.removeAll(List.of(rideCallRequestDto));
             }
 
-            // ride 정보 저장
-            Ride ride = Ride.builder()
-                    .passengerId(passengerInfo.getUserId())
-                    .driverId(driver.getId())
-                    .fare(0) // 요금은 바뀌기 때문에 0으로 세팅
-                    .startLatitude(rideCallRequestDto.getStartLatitude())
-                    .startLongitude(rideCallRequestDto.getStartLongitude())
-                    .startLocation(rideCallRequestDto.getStartLocation())
-                    .endLatitude(rideCallRequestDto.getEndLatitude())
-                    .endLongitude(rideCallRequestDto.getEndLongitude())
-                    .endLocation(rideCallRequestDto.getEndLocation())
-                    .rideStatus(RideStatus.ACCEPT)
-                    .build();
-
-            rideRepository.save(ride);
-
-            // 기사 상태 변경
-            driver.updateDriverStatus(DriverStatus.RESERVATION);
-
-            // redis -> 승객정보 삭제
-            redisTemplate.delete(DETAIL_KEY_PREFIX + dto.getPassengerEmail());
-
-            // redis -> 승객 출발지 위치정보 삭제
-            redisTemplate.opsForGeo().remove(GEO_KEY, dto.getPassengerEmail());
-
-            // kafka로 전송할 데이터 반환
-            RideAcceptDto rideAcceptDto = new RideAcceptDto();
-
-            rideAcceptDto.setRideId(ride.getId());
-
-            // 기사가 확인할 정보 (전화번호, 출발지, 목적지)
-            rideAcceptDto.setPassengerUserId(passengerInfo.getUserId());
-            rideAcceptDto.setPassengerPhoneNumber(passengerInfo.getPhoneNumber());
-            rideAcceptDto.setStartLocation(rideCallRequestDto.getStartLocation());
-            rideAcceptDto.setEndLocation(rideCallRequestDto.getEndLocation());
-
-            // 승객이 확인할 정보 (기사 이름, 기사 전화번호, 차 번호, 차 종류)
-            rideAcceptDto.setDriverUserId(driverInfo.getUserId());
-            rideAcceptDto.setDriverName(driverInfo.getName());
-            rideAcceptDto.setDriverPhoneNumber(driver.getPhoneNumber());
-            rideAcceptDto.setCarName(driver.getCarName());
-            rideAcceptDto.setCarNumber(driver.getCarNumber());
-            rideAcceptDto.setCapacity(driver.getCapacity());
-            rideAcceptDto.setTotalRides(driver.getTotalRides());
-
-            rideAcceptDto.setRideStatus(RideStatus.ACCEPT.name());
-            rideAcceptDto.setAcceptTime(ride.getCreatedAt());
-
-            rideAcceptDto.setPassengerEmail(passengerInfo.getEmail());
-            rideAcceptDto.setDriverEmail(driverInfo.getEmail());
-
-            return rideAcceptDto;
+            // 승객, 기사 정보를 함께 요청 (캐시에 없으면 한 번의 일괄 조회로 묶이거나 동시에 개별 조회)
+            CompletableFuture<UserDto> passengerLookup = userInfoCache.findUserInfoByEmail(dto.getPassengerEmail());
+            CompletableFuture<UserDto> driverLookup = userInfoCache.findUserInfoByEmail(dto.getDriverEmail());
+
+            // 두 조회 중 느린 쪽만큼만 기다림 (제한 시간을 넘기면 수락 실패)
+            UserInfoCache.awaitAll(Duration.ofMillis(lookupTimeoutMs), passengerLookup, driverLookup);
+
+            // 승객의 USER ID
+            UserDto passengerInfo = UserInfoCache.join(passengerLookup);
+
+            // 기사의 USER ID
+            UserDto driverInfo = UserInfoCache.join(driverLookup);
+
+            RideCallRequestDto callRequest = rideCallRequestDto;
+
+            // DB 작업만 트랜잭션으로 처리
+            RideAcceptDto acceptDto = inTransaction("accept", status -> {
+                // 기사 정보
+                Driver driver = driverRepository.findByUserId(driverInfo.getUserId());
+
+                // 기사 정보가 없으면 예외처리
+                if (driver == null) {
+                    log.error("호출 수락 중 기사 정보 없음");
+                    throw new CustomBadRequestException("호출을 수락할 수 없습니다.");
+                }
+
+                // 기사 상태가 대기중이 아니면 예외처리
+                if (!DriverStatus.WAITING.equals(driver.getDriverStatus())) {
+                    log.error("대기상태가 아니면 수락할 수 없음");
+                    throw new CustomBadRequestException("호출을 수락할 수 없습니다.");
+                }
+
+                // 기사 상태 변경 (읽은 뒤 다른 요청이 먼저 변경했으면 실패)
+                requireUpdated(driverRepository.updateStatus(driver.getId(), DriverStatus.WAITING, driver.getVersion(), DriverStatus.RESERVATION));
+                driver.updateDriverStatus(DriverStatus.RESERVATION);
+
+                // ride 정보 저장
+                Ride ride = Ride.builder()
+                        .passengerId(passengerInfo.getUserId())
+                        .driverId(driver.getId())
+                        .fare(0) // 요금은 바뀌기 때문에 0으로 세팅
+                        .startLatitude(callRequest.getStartLatitude())
+                        .startLongitude(callRequest.getStartLongitude())
+                        .startLocation(callRequest.getStartLocation())
+                        .endLatitude(callRequest.getEndLatitude())
+                        .endLongitude(callRequest.getEndLongitude())
+                        .endLocation(callRequest.getEndLocation())
+                        .rideStatus(RideStatus.ACCEPT)
+                        .participants(RideParticipants.of(passengerInfo, driverInfo))
+                        .build();
+
+                // 저장된 엔티티(id, 생성 시각)로 이벤트 생성
+                Ride savedRide = rideRepository.save(ride);
+
+                // kafka로 전송할 데이터 반환
+                RideAcceptDto rideAcceptDto = new RideAcceptDto();
+
+                rideAcceptDto.setRideId(savedRide.getId());
+
+                // 기사가 확인할 정보 (전화번호, 출발지, 목적지)
+                rideAcceptDto.setPassengerUserId(passengerInfo.getUserId());
+                rideAcceptDto.setPassengerPhoneNumber(passengerInfo.getPhoneNumber());
+                rideAcceptDto.setStartLocation(callRequest.getStartLocation());
+                rideAcceptDto.setEndLocation(callRequest.getEndLocation());
+
+                // 승객이 확인할 정보 (기사 이름, 기사 전화번호, 차 번호, 차 종류)
+                rideAcceptDto.setDriverUserId(driverInfo.getUserId());
+                rideAcceptDto.setDriverName(driverInfo.getName());
+                rideAcceptDto.setDriverPhoneNumber(driver.getPhoneNumber());
+                rideAcceptDto.setCarName(driver.getCarName());
+                rideAcceptDto.setCarNumber(driver.getCarNumber());
+                rideAcceptDto.setCapacity(driver.getCapacity());
+                rideAcceptDto.setTotalRides(driver.getTotalRides());
+
+                rideAcceptDto.setRideStatus(RideStatus.ACCEPT.name());
+                rideAcceptDto.setAcceptTime(savedRide.getCreatedAt());
+
+                rideAcceptDto.setPassengerEmail(passengerInfo.getEmail());
+                rideAcceptDto.setDriverEmail(driverInfo.getEmail());
+
+                // 수락 이벤트는 운행 저장과 같은 트랜잭션에서 outbox에 저장 (커밋 후 OutboxRelay가 발행)
+                rideEventOutbox.append("ride-accept", savedRide.getId(), rideAcceptDto);
+
+                return rideAcceptDto;
+            });
+
+            // 배차된 기사는 위치 인덱스에서 제외
+            driverLocationService.markUnavailable(dto.getDriverEmail());
+
+            return acceptDto;
         } catch (CustomBadRequestException e) {
+            restoreCall(rideCallRequestDto);
             throw e;
         } catch (Exception e) {
+            restoreCall(rideCallRequestDto);
             log.error("Json to Dto 변환 시 내부적인 오류 발생 : {}", e.getMessage());
             throw new CustomInternalException("Json to Dto 변환 시 내부적인 오류가 발생하였습니다.");
         }
 
     }
 
+    // 호출 선점 이후 수락에 실패하면 다른 기사가 수락할 수 있도록 호출을 되돌림
+    private void restoreCall(RideCallRequestDto callRequest) {
+        try {
+            pendingCallWriter.saveAll(List.of(callRequest), Duration.ofSeconds(callTtlSeconds));
+
+            callGridIndex.upsert(callRequest.getPassengerEmail(), callRequest.getStartLatitude(), callRequest.getStartLongitude());
+        } catch (Exception e) {
+            log.error("호출 복구 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    // 호출이 저장되어 있는 Geo 키 목록
+    private List<String> activeGeoKeys() {
+        if (!callShardKeys.isSharded()) {
+            return List.of(CallShardKeys.LEGACY_GEO_KEY);
+        }
+
+        Set<String> shards = redisTemplate.opsForSet().members(CallShardKeys.SHARDS_KEY);
+        List<String> geoKeys = shards == null ? new ArrayList<>() : new ArrayList<>(shards);
+
+        if (callShardKeys.isIncludeLegacy()) {
+            geoKeys.add(CallShardKeys.LEGACY_GEO_KEY);
+        }
+
+        return geoKeys;
+    }
+
     // 운행 호출 취소
-    @Transactional
+    // 운행 상태 변경 흐름 : 트랜잭션 전 원격 조회 -> 짧은 DB 트랜잭션 -> 트랜잭션 후 Redis 반영
+    // user-service 조회 중에는 DB 커넥션을 잡고 있지 않음
     public RideCancelDto cancelRide(Long rideId) {
-        Ride ride = getRide(rideId);
-        Driver driver = getDriver(ride.getDriverId());
+        RideParticipants legacyParticipants = resolveLegacyParticipants(rideId, RideStatus.ACCEPT);
 
-        // 운행 수락이 된 상태가 아니라면 ex) 취소, 종료, 운행중
-        if (!ride.getRideStatus().equals(RideStatus.ACCEPT)) {
-            log.error("호출 수락 상태가 아니면 취소할 수 없음");
-            throw new CustomBadRequestException("호출 취소를 할 수 없는 상태입니다.");
-        }
+        RideCancelDto rideCancelDto = inTransaction("cancel", status -> {
+            Ride ride = getRide(rideId);
+            Driver driver = getDriver(ride.getDriverId());
+
+            // 운행 수락이 된 상태가 아니라면 ex) 취소, 종료, 운행중
+            if (!ride.getRideStatus().equals(RideStatus.ACCEPT)) {
+                log.error("호출 수락 상태가 아니면 취소할 수 없음");
+                throw new CustomBadRequestException("호출 취소를 할 수 없는 상태입니다.");
+            }
+
+            RideParticipants participants = participantsOf(ride, legacyParticipants);
+
+            // 운행 취소로 변경
+            requireUpdated(rideRepository.updateStatus(ride.getId(), RideStatus.ACCEPT, ride.getVersion(), RideStatus.CANCEL));
+            ride.updateRideStatus(RideStatus.CANCEL);
+
+            // 운행 대기상태로 변경
+            requireUpdated(driverRepository.updateStatus(driver.getId(), driver.getDriverStatus(), driver.getVersion(), DriverStatus.WAITING));
+            driver.updateDriverStatus(DriverStatus.WAITING);
 
-        // 운행 취소로 변경
-        ride.updateRideStatus(RideStatus.CANCEL);
+            // dto 설정
+            RideCancelDto cancelDto = new RideCancelDto();
 
-        // 운행 대기상태로 변경
-        driver.updateDriverStatus(DriverStatus.WAITING);
+            cancelDto.setPassengerUserId(ride.getPassengerId());
+            cancelDto.setDriverUserId(driver.getUserId());
+            cancelDto.setRideId(rideId);
+            cancelDto.setCancelTime(ride.getUpdatedAt());
+            cancelDto.setRideStatus(RideStatus.CANCEL.name());
+            cancelDto.setDriverEmail(participants.getDriverEmail());
+            cancelDto.setPassengerEmail(participants.getPassengerEmail());
 
-        UserDto passengerInfo = userServiceClient.getUserInfoById(ride.getPassengerId());
-        UserDto driverInfo = userServiceClient.getUserInfoById(driver.getUserId());
+            rideEventOutbox.append("ride-cancel", rideId, cancelDto);
 
-        // dto 설정
-        RideCancelDto rideCancelDto = new RideCancelDto();
+            return cancelDto;
+        });
 
-        rideCancelDto.setPassengerUserId(ride.getPassengerId());
-        rideCancelDto.setDriverUserId(driverInfo.getUserId());
-        rideCancelDto.setRideId(rideId);
-        rideCancelDto.setCancelTime(ride.getUpdatedAt());
-        rideCancelDto.setRideStatus(RideStatus.CANCEL.name());
-        rideCancelDto.setDriverEmail(driverInfo.getEmail());
-        rideCancelDto.setPassengerEmail(passengerInfo.getEmail());
+        // 다시 대기중이 된 기사의 위치 갱신 허용
+        driverLocationService.markWaiting(rideCancelDto.getDriverEmail());
 
         return rideCancelDto;
     }
 
     // 운행 시작
-    @Transactional
     public RideStartDto startRide(Long rideId) {
-        Ride ride = getRide(rideId);
-        Driver driver = getDriver(ride.getDriverId());
+        RideParticipants legacyParticipants = resolveLegacyParticipants(rideId, RideStatus.ACCEPT);
 
-        // 운행 중으로 상태 변경
-        if (!RideStatus.ACCEPT.equals(ride.getRideStatus()) || !DriverStatus.RESERVATION.equals(driver.getDriverStatus())) {
-            throw new CustomBadRequestException("운행 시작을 할 수 없는 상태입니다.");
-        }
+        return inTransaction("start", status -> {
+            Ride ride = getRide(rideId);
+            Driver driver = getDriver(ride.getDriverId());
+
+            // 운행 중으로 상태 변경
+            if (!RideStatus.ACCEPT.equals(ride.getRideStatus()) || !DriverStatus.RESERVATION.equals(driver.getDriverStatus())) {
+                throw new CustomBadRequestException("운행 시작을 할 수 없는 상태입니다.");
+            }
 
-        // 운행 중으로 상태 변경
-        ride.updateRideStatus(RideStatus.DRIVING);
-        driver.updateDriverStatus(DriverStatus.DRIVING);
+            // driver, passenger 정보 (수락 시 저장한 정보)
+            RideParticipants participants = participantsOf(ride, legacyParticipants);
 
-        // driver, passenger 정보 조회
-        UserDto passengerInfo = userServiceClient.getUserInfoById(ride.getPassengerId());
-        UserDto driverInfo = userServiceClient.getUserInfoById(driver.getUserId());
+            // 운행 중으로 상태 변경
+            requireUpdated(rideRepository.updateStatus(ride.getId(), RideStatus.ACCEPT, ride.getVersion(), RideStatus.DRIVING));
+            requireUpdated(driverRepository.updateStatus(driver.getId(), DriverStatus.RESERVATION, driver.getVersion(), DriverStatus.DRIVING));
+            ride.updateRideStatus(RideStatus.DRIVING);
+            driver.updateDriverStatus(DriverStatus.DRIVING);
 
-        RideStartDto rideStartDto = new RideStartDto();
+            RideStartDto rideStartDto = new RideStartDto();
 
-        rideStartDto.setRideId(rideId);
+            rideStartDto.setRideId(rideId);
 
-        rideStartDto.setPassengerUserId(ride.getPassengerId());
-        rideStartDto.setPassengerPhoneNumber(passengerInfo.getPhoneNumber());
+            rideStartDto.setPassengerUserId(ride.getPassengerId());
+            rideStartDto.setPassengerPhoneNumber(participants.getPassengerPhoneNumber());
 
-        rideStartDto.setDriverUserId(driver.getUserId());
-        rideStartDto.setDriverName(driverInfo.getName());
-        rideStartDto.setDriverPhoneNumber(driverInfo.getPhoneNumber());
-        rideStartDto.setCarName(driver.getCarName());
-        rideStartDto.setCarNumber(driver.getCarNumber());
+            rideStartDto.setDriverUserId(driver.getUserId());
+            rideStartDto.setDriverName(participants.getDriverName());
+            rideStartDto.setDriverPhoneNumber(participants.getDriverPhoneNumber());
+            rideStartDto.setCarName(driver.getCarName());
+            rideStartDto.setCarNumber(driver.getCarNumber());
 
-        rideStartDto.setStartLocation(ride.getStartLocation());
-        rideStartDto.setEndLocation(ride.getEndLocation());
-        rideStartDto.setRideStatus(RideStatus.DRIVING.name());
-        rideStartDto.setStartTime(ride.getUpdatedAt());
+            rideStartDto.setStartLocation(ride.getStartLocation());
+            rideStartDto.setEndLocation(ride.getEndLocation());
+            rideStartDto.setRideStatus(RideStatus.DRIVING.name());
+            rideStartDto.setStartTime(ride.getUpdatedAt());
 
-        rideStartDto.setPassengerEmail(passengerInfo.getEmail());
-        rideStartDto.setDriverEmail(driverInfo.getEmail());
+            rideStartDto.setPassengerEmail(participants.getPassengerEmail());
+            rideStartDto.setDriverEmail(participants.getDriverEmail());
 
-        return rideStartDto;
+            rideEventOutbox.append("ride-start", rideId, rideStartDto);
+
+            return rideStartDto;
+        });
     }
 
     // 운행 완료
-    @Transactional
     public DriveCompleteDto completeRide(RideCompleteDto dto) {
-        Ride ride = getRide(dto.getRideId());
-        Driver driver = getDriver(ride.getDriverId());
+        RideParticipants legacyParticipants = resolveLegacyParticipants(dto.getRideId(), RideStatus.DRIVING);
 
-        // 요금 추가 및 운행 상태 변경
-        if (!RideStatus.DRIVING.equals(ride.getRideStatus()) || !DriverStatus.DRIVING.equals(driver.getDriverStatus())) {
-            throw new CustomBadRequestException("운행 완료를 할 수 없는 상태입니다.");
-        }
+        DriveCompleteDto driveCompleteDto = inTransaction("complete", status -> {
+            Ride ride = getRide(dto.getRideId());
+            Driver driver = getDriver(ride.getDriverId());
+
+            // 요금 추가 및 운행 상태 변경
+            if (!RideStatus.DRIVING.equals(ride.getRideStatus()) || !DriverStatus.DRIVING.equals(driver.getDriverStatus())) {
+                throw new CustomBadRequestException("운행 완료를 할 수 없는 상태입니다.");
+            }
 
-        ride.completeRide(dto.getFare());
+            // driver, passenger 정보 (수락 시 저장한 정보)
+            RideParticipants participants = participantsOf(ride, legacyParticipants);
 
-        // 기사 상태 변경 (운행횟수 +1, 운행상태 wait)
-        driver.finishRide();
+            requireUpdated(rideRepository.completeRide(ride.getId(), ride.getVersion(), dto.getFare()));
+            ride.completeRide(dto.getFare());
 
-        // driver, passenger 정보 조회
-        UserDto passengerInfo = userServiceClient.getUserInfoById(ride.getPassengerId());
-        UserDto driverInfo = userServiceClient.getUserInfoById(driver.getUserId());
+            // 기사 상태 변경 (운행횟수 +1, 운행상태 wait)
+            requireUpdated(driverRepository.finishRide(driver.getId(), driver.getVersion()));
+            driver.finishRide();
 
-        DriveCompleteDto driveCompleteDto = new DriveCompleteDto();
+            DriveCompleteDto completeDto = new DriveCompleteDto();
 
-        driveCompleteDto.setRideId(ride.getId());
+            completeDto.setRideId(ride.getId());
 
-        driveCompleteDto.setPassengerUserId(passengerInfo.getUserId());
-        driveCompleteDto.setPassengerPhoneNumber(passengerInfo.getPhoneNumber());
+            completeDto.setPassengerUserId(ride.getPassengerId());
+            completeDto.setPassengerPhoneNumber(participants.getPassengerPhoneNumber());
 
-        driveCompleteDto.setDriverUserId(driver.getUserId());
-        driveCompleteDto.setDriverName(driverInfo.getName());
-        driveCompleteDto.setDriverPhoneNumber(driver.getPhoneNumber());
-        driveCompleteDto.setCarName(driver.getCarName());
-        driveCompleteDto.setCarNumber(driver.getCarNumber());
+            completeDto.setDriverUserId(driver.getUserId());
+            completeDto.setDriverName(participants.getDriverName());
+            completeDto.setDriverPhoneNumber(driver.getPhoneNumber());
+            completeDto.setCarName(driver.getCarName());
+            completeDto.setCarNumber(driver.getCarNumber());
 
-        driveCompleteDto.setFare(ride.getFare());
-        driveCompleteDto.setStartLocation(ride.getStartLocation());
-        driveCompleteDto.setEndLocation(ride.getEndLocation());
-        driveCompleteDto.setRideStatus(RideStatus.COMPLETE.name());
-        driveCompleteDto.setCompleteTime(ride.getUpdatedAt());
+            completeDto.setFare(ride.getFare());
+            completeDto.setStartLocation(ride.getStartLocation());
+            completeDto.setEndLocation(ride.getEndLocation());
+            completeDto.setRideStatus(RideStatus.COMPLETE.name());
+            completeDto.setCompleteTime(ride.getUpdatedAt());
 
-        driveCompleteDto.setPassengerEmail(passengerInfo.getEmail());
-        driveCompleteDto.setDriverEmail(driverInfo.getEmail());
+            completeDto.setPassengerEmail(participants.getPassengerEmail());
+            completeDto.setDriverEmail(participants.getDriverEmail());
+
+            rideEventOutbox.append("ride-complete", ride.getId(), completeDto);
+
+            return completeDto;
+        });
+
+        // 다시 대기중이 된 기사의 위치 갱신 허용
+        driverLocationService.markWaiting(driveCompleteDto.getDriverEmail());
 
         return driveCompleteDto;
     }
 
-    // 롤백
-    @Transactional
-    public void rollBackRide(RollBackDto rollBackDto) {
-        Ride ride = rideRepository.findById(rollBackDto.getRideId())
-                .orElse(null);
+    // 회원 정보가 바뀌면 진행 중인 운행의 참여자 정보 갱신 (user-changed 이벤트)
+    // 이벤트에 담긴 회원 정보를 그대로 사용 (Kafka consumer 스레드에는 회원 요청의 인증 정보가 없으므로 조회하지 않음)
+    // 회원 정보가 없는 이전 버전 이벤트만 진행 중인 운행이 있을 때 user-service를 조회 (서비스 토큰으로 인증)
+    public void refreshParticipants(UserChangedDto changed) {
+        Long userId = changed.getUserId();
+        List<RideStatus> activeStatuses = List.of(RideStatus.ACCEPT, RideStatus.DRIVING);
 
-        if (ride != null) {
-            rideRepository.delete(ride);
+        if (findActiveRides(userId, activeStatuses).isEmpty()) {
+            return;
         }
 
-        Driver driver = driverRepository.findByUserId(rollBackDto.getDriverUserId());
+        UserDto userInfo;
 
-        if (driver == null) {
-            throw new CustomInternalException("해당 기사가 없습니다.");
+        if (changed.getName() != null || changed.getPhoneNumber() != null) {
+            userInfo = new UserDto(userId, changed.getName(), changed.getPhoneNumber(), changed.getEmail());
+        } else {
+            // 이 인스턴스의 캐시가 아직 삭제되지 않았을 수 있으므로 다시 조회
+            userInfoCache.invalidate(userId, null);
+            userInfo = userInfoCache.getUserInfoById(userId);
         }
 
-        driver.updateDriverStatus(DriverStatus.WAITING);
+        inTransaction("refresh", status -> {
+            List<Ride> passengerRides = rideRepository.findAllByPassengerIdAndRideStatusIn(userId, activeStatuses);
+            Driver driver = driverRepository.findByUserId(userId);
+            List<Ride> driverRides = driver == null ? List.of() : rideRepository.findAllByDriverIdAndRideStatusIn(driver.getId(), activeStatuses);
+
+            // 참여자 정보가 없는 이전 운행은 다음 상태 변경 시 채움
+            passengerRides.stream()
+                    .filter(ride -> ride.getParticipants() != null)
+                    .forEach(ride -> ride.updateParticipants(ride.getParticipants().withPassenger(userInfo)));
+            driverRides.stream()
+                    .filter(ride -> ride.getParticipants() != null)
+                    .forEach(ride -> ride.updateParticipants(ride.getParticipants().withDriver(userInfo)));
+
+            return null;
+        });
     }
 
-    // 운행 시작 메서드 실패 시 강제 시작
-    // kafka 보상 메서드
-    public void rollBackStartRide(RideStartDto rideStartDto) {
-        Ride ride = getRide(rideStartDto.getRideId());
-        Driver driver = getDriver(ride.getDriverId());
+    private List<Ride> findActiveRides(Long userId, List<RideStatus> activeStatuses) {
+        List<Ride> rides = new ArrayList<>(rideRepository.findAllByPassengerIdAndRideStatusIn(userId, activeStatuses));
+        Driver driver = driverRepository.findByUserId(userId);
 
-        // 운행 중으로 상태 강제 변경
-        ride.updateRideStatus(RideStatus.DRIVING);
-        driver.updateDriverStatus(DriverStatus.DRIVING);
+        if (driver != null) {
+            rides.addAll(rideRepository.findAllByDriverIdAndRideStatusIn(driver.getId(), activeStatuses));
+        }
+
+        return rides;
     }
 
-    // 운행 종료 메서드 실패 시 강제 종료
-    // kafka 보상 메서드
-    public void rollBackCompleteRide(DriveCompleteDto rideCompleteDto) {
-        Ride ride = getRide(rideCompleteDto.getRideId());
+    // 수락 시 저장한 참여자 정보가 없는 이전 운행만 트랜잭션 전에 user-service에서 조회
+    // 저장되어 있거나 상태 변경이 불가능한 운행(트랜잭션에서 실패 처리)은 조회하지 않고 null
+    private RideParticipants resolveLegacyParticipants(Long rideId, RideStatus expectedStatus) {
+        Ride ride = getRide(rideId);
+
+        if (ride.getParticipants() != null || !expectedStatus.equals(ride.getRideStatus())) {
+            return null;
+        }
+
         Driver driver = getDriver(ride.getDriverId());
 
-        ride.completeRide(rideCompleteDto.getFare());
+        CompletableFuture<UserDto> passengerLookup = userInfoCache.findUserInfoById(ride.getPassengerId());
+        CompletableFuture<UserDto> driverLookup = userInfoCache.findUserInfoById(driver.getUserId());
+
+        UserInfoCache.awaitAll(Duration.ofMillis(lookupTimeoutMs), passengerLookup, driverLookup);
+
+        return RideParticipants.of(UserInfoCache.join(passengerLookup), UserInfoCache.join(driverLookup));
+    }
+
+    // 트랜잭션 안에서는 참여자 정보를 조회하지 않고, 비어 있으면 미리 조회한 정보로 채움
+    private RideParticipants participantsOf(Ride ride, RideParticipants legacyParticipants) {
+        if (ride.getParticipants() == null) {
+            if (legacyParticipants == null) {
+                throw new CustomInternalException("운행 참여자 정보를 확인할 수 없습니다.");
+            }
+
+            ride.updateParticipants(legacyParticipants);
+
+            // 상태 변경(버전 비교) 전에 먼저 저장
+            rideRepository.saveAndFlush(ride);
+        }
+
+        return ride.getParticipants();
+    }
+
+    // 상태 변경은 읽은 상태, 버전 그대로일 때만 반영되므로 0건이면 다른 요청이 먼저 변경한 것 (잠금 없이 바로 실패)
+    private void requireUpdated(int updatedRows) {
+        if (updatedRows == 0) {
+            log.error("운행 상태 동시 변경 충돌");
+            throw new CustomBadRequestException("다른 요청이 먼저 처리되었습니다. 다시 시도해주세요.");
+        }
+    }
 
-        // 기사 상태 변경 (운행횟수 +1, 운행상태 wait)
-        driver.finishRide();
+    // 상태 변경 트랜잭션 (DB 커넥션 점유 시간을 상태 변경별로 기록)
+    // 트랜잭션이 시작되어 커넥션을 받은 뒤부터 커밋, 반환까지 측정 (커넥션 풀 대기 시간 제외)
+    private <T> T inTransaction(String transition, TransactionCallback<T> action) {
+        AtomicReference<Timer.Sample> held = new AtomicReference<>();
+
+        try {
+            return transactionTemplate.execute(status -> {
+                held.set(Timer.start(meterRegistry));
+
+                return action.doInTransaction(status);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            // 커밋 시점에 버전이 달라진 경우 (참여자 정보 저장 등)
+            log.error("운행 정보 동시 변경 충돌 : {}", e.getMessage());
+            throw new CustomBadRequestException("다른 요청이 먼저 처리되었습니다. 다시 시도해주세요.");
+        } finally {
+            Timer.Sample sample = held.get();
+
+            // 커넥션을 받지 못해 시작하지 못한 트랜잭션은 기록하지 않음
+            if (sample != null) {
+                sample.stop(meterRegistry.timer("ride.transition.connection-hold", "transition", transition));
+            }
+        }
     }
 
     private Driver getDriver(Long driverId) {
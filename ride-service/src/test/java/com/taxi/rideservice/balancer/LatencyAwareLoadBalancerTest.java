@@ -0,0 +1,126 @@
+package com.taxi.rideservice.balancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyAwareLoadBalancerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstanceLatencyTracker tracker = new InstanceLatencyTracker(meterRegistry);
+    private final HedgeRouting hedgeRouting = new HedgeRouting();
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "user-service", "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "user-service", "10.0.0.2", 8080, false);
+
+    private LatencyAwareLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "decayMs", 10_000L);
+        ReflectionTestUtils.setField(tracker, "failurePenaltyMs", 1000L);
+        ReflectionTestUtils.setField(tracker, "coldLatencyMs", 1.0);
+
+        ServiceInstanceListSupplier supplier = new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return "user-service";
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(List.of(fast, slow));
+            }
+        };
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("supplier", supplier));
+        loadBalancer = new LatencyAwareLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), "user-service", tracker, hedgeRouting);
+    }
+
+    @Test
+    void 느린_인스턴스_회피_테스트() {
+        tracker.record(fast, 10, false);
+        tracker.record(slow, 500, false);
+
+        for (int i = 0; i < 20; i++) {
+            Response<ServiceInstance> response = loadBalancer.choose(new DefaultRequest<>()).block();
+
+            assertSame(fast, response.getServer());
+        }
+    }
+
+    @Test
+    void 처리_중인_요청이_많으면_다른_인스턴스_선택_테스트() {
+        tracker.record(fast, 10, false);
+        tracker.record(slow, 30, false);
+
+        // 빠른 인스턴스에 요청이 몰려 있으면 (10ms x 5) 느린 인스턴스 (30ms x 1) 선택
+        for (int i = 0; i < 4; i++) {
+            tracker.statsOf(fast).start();
+        }
+
+        assertSame(slow, loadBalancer.choose(new DefaultRequest<>()).block().getServer());
+    }
+
+    @Test
+    void 실패한_요청은_지연으로_기록_테스트() {
+        tracker.record(fast, 10, false);
+        tracker.record(slow, 10, true);
+
+        assertSame(fast, loadBalancer.choose(new DefaultRequest<>()).block().getServer());
+
+        InstanceLatencyTracker.InstanceSnapshot slowStats = tracker.snapshot().get("user-service").get(1);
+        assertEquals("10.0.0.2:8080", slowStats.instance());
+        assertEquals(1, slowStats.failures());
+        assertTrue(slowStats.latencyMs() >= 999);
+    }
+
+    @Test
+    void 응답_시간_기록_후_처리_중_요청_감소_테스트() {
+        tracker.statsOf(fast).start();
+        tracker.record(fast, 20, false);
+
+        InstanceLatencyTracker.InstanceSnapshot stats = tracker.snapshot().get("user-service").get(0);
+        assertEquals(0, stats.inFlight());
+        assertEquals(1, stats.requests());
+        assertTrue(meterRegistry.get("ride.lb.instance.latency").tag("instance", "10.0.0.1:8080").gauge().value() > 0);
+    }
+
+    @Test
+    void 처리_중인_요청이_많은_새_인스턴스_회피_테스트() {
+        tracker.record(fast, 10, false);
+
+        // 응답 시간을 측정하지 않은 인스턴스도 중앙값(10ms) x 5 로 계산해 요청이 몰리지 않음
+        for (int i = 0; i < 4; i++) {
+            tracker.statsOf(slow).start();
+        }
+
+        assertSame(fast, loadBalancer.choose(new DefaultRequest<>()).block().getServer());
+    }
+
+    @Test
+    void 목록에서_빠진_인스턴스_삭제_테스트() {
+        tracker.record(fast, 10, false);
+        tracker.record(slow, 30, false);
+
+        tracker.retain("USER-SERVICE", List.of(fast));
+
+        assertEquals(1, tracker.snapshot().get("user-service").size());
+        assertEquals("10.0.0.1:8080", tracker.snapshot().get("user-service").get(0).instance());
+        assertNull(meterRegistry.find("ride.lb.instance.latency").tag("instance", "10.0.0.2:8080").gauge());
+        assertNotNull(meterRegistry.find("ride.lb.instance.latency").tag("instance", "10.0.0.1:8080").gauge());
+    }
+}
@@ -0,0 +1,22 @@
+package com.taxi.rideservice.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceCredentialTest {
+
+    @Test
+    void 서비스_토큰_테스트() {
+        ServiceCredential serviceCredential = new ServiceCredential("service-token");
+
+        assertEquals("service-token", serviceCredential.token());
+    }
+
+    @Test
+    void 서비스_토큰_없으면_시작_실패_테스트() {
+        assertThrows(IllegalStateException.class, () -> new ServiceCredential(""));
+        assertThrows(IllegalStateException.class, () -> new ServiceCredential("  "));
+    }
+}
@@ -0,0 +1,172 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserInfoCacheTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Mock
+    private UserLookupBatcher userLookupBatcher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService userLookupExecutor = Executors.newFixedThreadPool(4);
+
+    private UserInfoCache userInfoCache;
+
+    private final UserDto userDto = new UserDto(1L, "테스터", "01012341234", "test@email.com");
+
+    @BeforeEach
+    void setUp() {
+        UserServiceCaller userServiceCaller = new UserServiceCaller(meterRegistry, new MockEnvironment(), Runnable::run, new HedgeRouting());
+        userInfoCache = new UserInfoCache(userServiceClient, userServiceCaller, userLookupBatcher, userLookupExecutor, meterRegistry);
+
+        ReflectionTestUtils.setField(userInfoCache, "enabled", true);
+        ReflectionTestUtils.setField(userInfoCache, "batchEnabled", false);
+        ReflectionTestUtils.setField(userInfoCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userInfoCache, "maxSize", 100L);
+        userInfoCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userLookupExecutor.shutdownNow();
+    }
+
+    @Test
+    void 이메일_조회_후_id_조회_캐시_테스트() {
+        when(userServiceClient.getUserInfoByEmail("test@email.com")).thenReturn(userDto);
+
+        userInfoCache.getUserInfoByEmail("test@email.com");
+        userInfoCache.getUserInfoByEmail("test@email.com");
+        UserDto byId = userInfoCache.getUserInfoById(1L);
+
+        // 이메일로 한 번만 조회하고, id 조회는 같은 결과 사용
+        assertSame(userDto, byId);
+        verify(userServiceClient, times(1)).getUserInfoByEmail("test@email.com");
+        verify(userServiceClient, never()).getUserInfoById(anyLong());
+        assertEquals(1.0, meterRegistry.counter("ride.user-cache.requests", "key", "email", "result", "miss").count());
+        assertEquals(1.0, meterRegistry.counter("ride.user-cache.requests", "key", "email", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("ride.user-cache.requests", "key", "id", "result", "hit").count());
+    }
+
+    @Test
+    void 동시_조회_한_번만_요청_테스트() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(userServiceClient.getUserInfoById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+
+            return userDto;
+        });
+
+        CompletableFuture<UserDto> first = CompletableFuture.supplyAsync(() -> userInfoCache.getUserInfoById(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<UserDto> second = CompletableFuture.supplyAsync(() -> userInfoCache.getUserInfoById(1L));
+        release.countDown();
+
+        assertSame(userDto, first.get(5, TimeUnit.SECONDS));
+        assertSame(userDto, second.get(5, TimeUnit.SECONDS));
+        verify(userServiceClient, times(1)).getUserInfoById(1L);
+    }
+
+    @Test
+    void 회원_정보_변경_시_캐시_삭제_테스트() {
+        UserDto changed = new UserDto(1L, "테스터", "01099999999", "test@email.com");
+        when(userServiceClient.getUserInfoById(1L)).thenReturn(userDto).thenReturn(changed);
+
+        userInfoCache.getUserInfoById(1L);
+        userInfoCache.invalidate(1L, "test@email.com");
+
+        assertSame(changed, userInfoCache.getUserInfoById(1L));
+        verify(userServiceClient, times(2)).getUserInfoById(1L);
+    }
+
+    @Test
+    void 조회_실패는_캐시하지_않음_테스트() {
+        when(userServiceClient.getUserInfoByEmail("test@email.com"))
+                .thenThrow(new IllegalStateException("user-service unavailable"))
+                .thenReturn(userDto);
+
+        assertThrows(IllegalStateException.class, () -> userInfoCache.getUserInfoByEmail("test@email.com"));
+        assertSame(userDto, userInfoCache.getUserInfoByEmail("test@email.com"));
+    }
+
+    @Test
+    void 일괄_조회_사용_시_캐시에_없는_회원만_요청_테스트() {
+        ReflectionTestUtils.setField(userInfoCache, "batchEnabled", true);
+        CompletableFuture<UserDto> lookup = new CompletableFuture<>();
+        when(userLookupBatcher.findByEmail("test@email.com")).thenReturn(lookup);
+
+        CompletableFuture<UserDto> first = userInfoCache.findUserInfoByEmail("test@email.com");
+        CompletableFuture<UserDto> second = userInfoCache.findUserInfoByEmail("test@email.com");
+        lookup.complete(userDto);
+
+        assertSame(userDto, first.join());
+        assertSame(userDto, second.join());
+        assertSame(userDto, userInfoCache.getUserInfoById(1L));
+        verify(userLookupBatcher, times(1)).findByEmail("test@email.com");
+        verifyNoInteractions(userServiceClient);
+        assertEquals(1.0, meterRegistry.counter("ride.user-cache.requests", "key", "email", "result", "shared").count());
+    }
+
+    @Test
+    void 서로_다른_회원_동시_조회_테스트() {
+        CountDownLatch started = new CountDownLatch(2);
+        UserDto driverDto = new UserDto(2L, "기사", "01056785678", "driver@email.com");
+
+        // 두 조회가 모두 시작되어야 응답 (순서대로 조회하면 시간 초과)
+        when(userServiceClient.getUserInfoByEmail(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            started.await(5, TimeUnit.SECONDS);
+
+            return "test@email.com".equals(invocation.getArgument(0)) ? userDto : driverDto;
+        });
+
+        CompletableFuture<UserDto> passenger = userInfoCache.findUserInfoByEmail("test@email.com");
+        CompletableFuture<UserDto> driver = userInfoCache.findUserInfoByEmail("driver@email.com");
+
+        UserInfoCache.awaitAll(Duration.ofSeconds(1), passenger, driver);
+
+        assertSame(userDto, passenger.join());
+        assertSame(driverDto, driver.join());
+    }
+
+    @Test
+    void 조회_시간_초과_테스트() {
+        CompletableFuture<UserDto> pending = new CompletableFuture<>();
+
+        assertThrows(CustomInternalException.class,
+                () -> UserInfoCache.awaitAll(Duration.ofMillis(10), CompletableFuture.completedFuture(userDto), pending));
+    }
+}
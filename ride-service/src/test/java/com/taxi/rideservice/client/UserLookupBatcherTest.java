@@ -0,0 +1,121 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.dto.UserLookupRequestDto;
+import com.taxi.common.core.exception.CustomBadRequestException;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupBatcherTest {
+
+    @InjectMocks
+    private UserLookupBatcher userLookupBatcher;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private UserServiceCaller userServiceCaller =
+            new UserServiceCaller(new SimpleMeterRegistry(), new MockEnvironment(), Runnable::run, new HedgeRouting());
+
+    private final UserDto passenger = new UserDto(1L, "승객", "01011112222", "passenger@email.com");
+    private final UserDto driver = new UserDto(2L, "기사", "01033334444", "driver@email.com");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userLookupBatcher, "windowMs", 50L);
+        ReflectionTestUtils.setField(userLookupBatcher, "maxSize", 100);
+        ReflectionTestUtils.setField(userLookupBatcher, "threads", 1);
+        userLookupBatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        userLookupBatcher.shutdown();
+    }
+
+    @Test
+    void 짧은_시간_내_조회_한_번에_요청_테스트() throws Exception {
+        when(userServiceClient.getUserInfos(any(UserLookupRequestDto.class))).thenReturn(List.of(passenger, driver));
+
+        CompletableFuture<UserDto> byEmail = userLookupBatcher.findByEmail("passenger@email.com");
+        CompletableFuture<UserDto> byId = userLookupBatcher.findById(2L);
+
+        assertSame(passenger, byEmail.get(5, TimeUnit.SECONDS));
+        assertSame(driver, byId.get(5, TimeUnit.SECONDS));
+
+        ArgumentCaptor<UserLookupRequestDto> captor = ArgumentCaptor.forClass(UserLookupRequestDto.class);
+        verify(userServiceClient, times(1)).getUserInfos(captor.capture());
+        assertEquals(List.of(2L), captor.getValue().getIds());
+        assertEquals(List.of("passenger@email.com"), captor.getValue().getEmails());
+    }
+
+    @Test
+    void 없는_회원_조회_실패_테스트() {
+        when(userServiceClient.getUserInfos(any(UserLookupRequestDto.class))).thenReturn(List.of(passenger));
+
+        CompletableFuture<UserDto> unknown = userLookupBatcher.findById(99L);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> unknown.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CustomBadRequestException.class, e.getCause());
+    }
+
+    @Test
+    void 다른_회원_토큰_조회_서비스_토큰으로_한_번에_요청_테스트() throws Exception {
+        when(userServiceClient.getUserInfos(any(UserLookupRequestDto.class))).thenReturn(List.of(passenger, driver));
+
+        // 서로 다른 회원 요청 (한 쪽 토큰은 만료되었어도 다른 회원 조회에 영향 없음)
+        CompletableFuture<UserDto> byPassenger = inRequest("Bearer passenger-token", () -> userLookupBatcher.findById(1L));
+        CompletableFuture<UserDto> byDriver = inRequest("Bearer expired-driver-token", () -> userLookupBatcher.findById(2L));
+
+        assertSame(passenger, byPassenger.get(5, TimeUnit.SECONDS));
+        assertSame(driver, byDriver.get(5, TimeUnit.SECONDS));
+
+        // 회원 인증 헤더 없이 한 번에 조회 (인증은 FeignConfig가 서비스 토큰으로 처리)
+        ArgumentCaptor<UserLookupRequestDto> captor = ArgumentCaptor.forClass(UserLookupRequestDto.class);
+        verify(userServiceClient, times(1)).getUserInfos(captor.capture());
+        assertEquals(List.of(1L, 2L), captor.getValue().getIds());
+    }
+
+    private CompletableFuture<UserDto> inRequest(String authorization, Supplier<CompletableFuture<UserDto>> lookup) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", authorization);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            return lookup.get();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.taxi.rideservice.client;
+
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.balancer.HedgeRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserServiceCallerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 헤지_요청_먼저_온_응답_사용_테스트() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ride.user-client.get-user-info-by-id.hedge.enabled", "true")
+                .withProperty("ride.user-client.hedge.min-delay-ms", "20");
+        UserServiceCaller caller = new UserServiceCaller(meterRegistry, environment, executor, new HedgeRouting());
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // 첫 요청은 응답하지 않고, 헤지 요청은 바로 응답
+        String result = caller.call("get-user-info-by-id", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(release);
+                return "primary";
+            }
+
+            assertNotNull(HedgeRouting.currentHedgeId());
+            return "hedge";
+        });
+        release.countDown();
+
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, meterRegistry.counter("ride.user-client.hedges", "method", "get-user-info-by-id", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter("ride.user-client.hedges", "method", "get-user-info-by-id", "result", "won").count());
+    }
+
+    @Test
+    void 헤지_미사용_메서드는_한_번만_요청_테스트() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ride.user-client.get-user-info-by-id.hedge.enabled", "true");
+        UserServiceCaller caller = new UserServiceCaller(meterRegistry, environment, executor, new HedgeRouting());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertEquals("user", caller.call("get-user-info-by-email", () -> {
+            attempts.incrementAndGet();
+            return "user";
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(1, meterRegistry.get("ride.user-client.requests").tag("method", "get-user-info-by-email").timer().count());
+    }
+
+    @Test
+    void 동시_호출_수_초과_시_거절_테스트() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ride.user-client.bulkhead.max-concurrent", "1")
+                .withProperty("ride.user-client.bulkhead.max-wait-ms", "10");
+        UserServiceCaller caller = new UserServiceCaller(meterRegistry, environment, executor, new HedgeRouting());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> stalled = CompletableFuture.supplyAsync(() -> caller.call("get-user-info-by-id", () -> {
+            started.countDown();
+            await(release);
+            return "user";
+        }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // user-service가 응답하지 않는 동안 다음 호출은 기다리지 않고 실패
+        assertThrows(CustomInternalException.class, () -> caller.call("get-user-info-by-id", () -> "user"));
+        assertEquals(1.0, meterRegistry.counter("ride.user-client.bulkhead.rejected", "method", "get-user-info-by-id").count());
+
+        release.countDown();
+        assertEquals("user", stalled.get(5, TimeUnit.SECONDS));
+        assertEquals("user", caller.call("get-user-info-by-id", () -> "user"));
+    }
+
+    @Test
+    void 헤지_후_늦은_첫_요청도_끝날_때까지_동시_호출_수_차지_테스트() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ride.user-client.get-user-info-by-id.hedge.enabled", "true")
+                .withProperty("ride.user-client.hedge.min-delay-ms", "20")
+                .withProperty("ride.user-client.bulkhead.max-concurrent", "2")
+                .withProperty("ride.user-client.bulkhead.max-wait-ms", "10");
+        UserServiceCaller caller = new UserServiceCaller(meterRegistry, environment, executor, new HedgeRouting());
+
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // 헤지 요청이 먼저 응답해도 첫 요청은 아직 user-service를 기다리는 중
+        assertEquals("hedge", caller.call("get-user-info-by-id", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(releasePrimary);
+                return "primary";
+            }
+
+            return "hedge";
+        }));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch releaseOther = new CountDownLatch(1);
+        CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> caller.call("get-user-info-by-email", () -> {
+            started.countDown();
+            await(releaseOther);
+            return "user";
+        }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // 늦은 첫 요청 1 + 다른 호출 1 로 가득 참
+        assertThrows(CustomInternalException.class, () -> caller.call("get-user-info-by-email", () -> "user"));
+
+        releasePrimary.countDown();
+        releaseOther.countDown();
+        assertEquals("user", other.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
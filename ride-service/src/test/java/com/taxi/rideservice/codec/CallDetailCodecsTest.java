@@ -0,0 +1,83 @@
+package com.taxi.rideservice.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallDetailCodecsTest {
+
+    private final JsonCallDetailCodec jsonCodec = new JsonCallDetailCodec(new ObjectMapper());
+    private final BinaryCallDetailCodec binaryCodec = new BinaryCallDetailCodec();
+
+    private final RideCallRequestDto dto =
+            new RideCallRequestDto("test@email.com", 37.4979, 127.0276, "강남역", 37.5665, 126.9780, "서울시청");
+
+    @Test
+    void 바이너리_변환_테스트() {
+        byte[] data = binaryCodec.encode(dto);
+        RideCallRequestDto decoded = binaryCodec.decode(data);
+
+        assertEquals(dto.getPassengerEmail(), decoded.getPassengerEmail());
+        assertEquals(dto.getStartLatitude(), decoded.getStartLatitude());
+        assertEquals(dto.getStartLongitude(), decoded.getStartLongitude());
+        assertEquals(dto.getStartLocation(), decoded.getStartLocation());
+        assertEquals(dto.getEndLatitude(), decoded.getEndLatitude());
+        assertEquals(dto.getEndLongitude(), decoded.getEndLongitude());
+        assertEquals(dto.getEndLocation(), decoded.getEndLocation());
+
+        // 필드 이름이 없으므로 JSON 보다 작음
+        assertTrue(data.length < jsonCodec.encode(dto).length);
+    }
+
+    @Test
+    void 형식별_크기_테스트() {
+        // CallDetailCodecBenchmark 와 같은 호출 정보
+        RideCallRequestDto call = new RideCallRequestDto("passenger0001@email.com", 37.4979, 127.0276, "서울특별시 강남구 강남대로 396",
+                37.5665, 126.9780, "서울특별시 중구 세종대로 110");
+
+        // 헤더 3 + 이메일 (2 + 23) + 좌표 32 + 출발지 (2 + 42) + 목적지 (2 + 39)
+        assertEquals(145, binaryCodec.encode(call).length);
+        assertTrue(jsonCodec.encode(call).length > 145 * 1.5);
+    }
+
+    @Test
+    void 바이너리_null_필드_변환_테스트() {
+        RideCallRequestDto partial = new RideCallRequestDto("test@email.com", 37.4979, 127.0276, null, null, null, null);
+
+        RideCallRequestDto decoded = binaryCodec.decode(binaryCodec.encode(partial));
+
+        assertEquals("test@email.com", decoded.getPassengerEmail());
+        assertEquals(127.0276, decoded.getStartLongitude());
+        assertNull(decoded.getStartLocation());
+        assertNull(decoded.getEndLatitude());
+        assertNull(decoded.getEndLocation());
+    }
+
+    @Test
+    void 저장된_형식_자동_판별_테스트() {
+        // 바이너리로 저장하도록 바꿔도 기존 JSON 값을 읽을 수 있음
+        CallDetailCodecs codecs = new CallDetailCodecs(List.of(jsonCodec, binaryCodec), "binary");
+
+        byte[] legacy = ("{\"passengerEmail\":\"test@email.com\",\"startLatitude\":37.4979,\"startLongitude\":127.0276," +
+                "\"startLocation\":\"강남역\",\"endLatitude\":37.5665,\"endLongitude\":126.978,\"endLocation\":\"서울시청\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(binaryCodec.supports(codecs.encode(dto)));
+        assertEquals("강남역", codecs.decode(legacy).getStartLocation());
+        assertEquals("서울시청", codecs.decode(codecs.encode(dto)).getEndLocation());
+    }
+
+    @Test
+    void 알수없는_형식_실패_테스트() {
+        CallDetailCodecs codecs = new CallDetailCodecs(List.of(jsonCodec, binaryCodec), "json");
+
+        assertThrows(CustomInternalException.class, () -> codecs.decode(new byte[]{0x01, 0x02, 0x03}));
+        assertThrows(IllegalStateException.class, () -> new CallDetailCodecs(List.of(jsonCodec), "protobuf"));
+    }
+}
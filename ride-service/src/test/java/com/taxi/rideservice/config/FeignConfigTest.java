@@ -0,0 +1,40 @@
+package com.taxi.rideservice.config;
+
+import com.taxi.common.security.ServiceTokenFilter;
+import com.taxi.rideservice.client.ServiceCredential;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FeignConfigTest {
+
+    private final RequestInterceptor requestInterceptor = new FeignConfig().requestInterceptor(new ServiceCredential("service-token"));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 회원_요청_중에도_서비스_토큰으로_인증_테스트() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer passenger-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        RequestTemplate requestTemplate = new RequestTemplate();
+        requestInterceptor.apply(requestTemplate);
+
+        assertEquals(List.of("service-token"), List.copyOf(requestTemplate.headers().get(ServiceTokenFilter.HEADER)));
+        assertFalse(requestTemplate.headers().containsKey(HttpHeaders.AUTHORIZATION));
+    }
+}
@@ -2,10 +2,12 @@ package com.taxi.rideservice.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.rideservice.dto.DriverLocationUpdateDto;
 import com.taxi.rideservice.dto.DriverRegisterDto;
 import com.taxi.rideservice.dto.DriverStatusUpdateDto;
 import com.taxi.rideservice.dto.DriverUpdateDto;
 import com.taxi.rideservice.enums.DriverStatus;
+import com.taxi.rideservice.service.DriverLocationService;
 import com.taxi.rideservice.service.DriverService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,9 @@ class DriverControllerTest {
     @MockBean
     private DriverService driverService;
 
+    @MockBean
+    private DriverLocationService driverLocationService;
+
     @Test
     void 기사_정보_등록_테스트() throws Exception {
         DriverRegisterDto dto =
@@ -126,4 +131,26 @@ class DriverControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 기사_위치_갱신_테스트() throws Exception {
+        DriverLocationUpdateDto dto = new DriverLocationUpdateDto("driver@test.com", 37.4979, 127.0276);
+
+        mockMvc.perform(post("/api/driver/location")
+                        .content(new ObjectMapper().writeValueAsString(dto))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 기사_위치_갱신_valid() throws Exception {
+        DriverLocationUpdateDto dto = new DriverLocationUpdateDto("driver@test.com", 95.0, 127.0276);
+
+        mockMvc.perform(post("/api/driver/location")
+                        .content(new ObjectMapper().writeValueAsString(dto))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
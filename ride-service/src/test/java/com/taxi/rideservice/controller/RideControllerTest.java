@@ -87,8 +87,8 @@ class RideControllerTest {
 
         List<CallResponseDto> callDto = new ArrayList<>();
 
-        CallResponseDto response1 = new CallResponseDto("test1@email.com", "출발지1", "도착지1");
-        CallResponseDto response2 = new CallResponseDto("test2@email.com", "출발지2", "도착지2");
+        CallResponseDto response1 = new CallResponseDto("test1@email.com", "출발지1", "도착지1", 0.5);
+        CallResponseDto response2 = new CallResponseDto("test2@email.com", "출발지2", "도착지2", 1.2);
 
         callDto.add(response1);
         callDto.add(response2);
@@ -101,7 +101,8 @@ class RideControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].startLocation").value("출발지1"))
-                .andExpect(jsonPath("$.data[1].startLocation").value("출발지2"));
+                .andExpect(jsonPath("$.data[1].startLocation").value("출발지2"))
+                .andExpect(jsonPath("$.data[0].distanceKm").value(0.5));
     }
 
     @Test
@@ -140,7 +141,6 @@ class RideControllerTest {
         rideInfoDto.setTotalRides(50);
 
         given(rideService.acceptCall(any())).willReturn(rideInfoDto);
-        willDoNothing().given(rideProducer).sendRideAccept(rideInfoDto);
 
         mockMvc.perform(post("/api/ride/accept")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -171,7 +171,6 @@ class RideControllerTest {
         dto.setCancelTime(LocalDateTime.now());
 
         given(rideService.cancelRide(any())).willReturn(dto);
-        willDoNothing().given(rideProducer).sendRideCancel(any());
 
         mockMvc.perform(post("/api/ride/cancel/{rideId}", 1L))
                 .andDo(print())
@@ -182,7 +181,6 @@ class RideControllerTest {
     void 택시_시작_테스트() throws Exception {
         RideStartDto dto = new RideStartDto();
         given(rideService.startRide(any())).willReturn(dto);
-        willDoNothing().given(rideProducer).sendRideStart(any());
 
         mockMvc.perform(post("/api/ride/start/{rideId}", 1L))
                 .andDo(print())
@@ -199,7 +197,6 @@ class RideControllerTest {
         DriveCompleteDto rideCompleteDto = new DriveCompleteDto();
 
         given(rideService.completeRide(dto)).willReturn(rideCompleteDto);
-        willDoNothing().given(rideProducer).sendRideComplete(any());
 
         mockMvc.perform(post("/api/ride/complete")
                         .content(new ObjectMapper().writeValueAsString(dto))
@@ -0,0 +1,53 @@
+package com.taxi.rideservice.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HungarianAssignmentTest {
+
+    @Test
+    void 최소_비용_배정_테스트() {
+        // 순서대로 배정(0->0, 1->1, 2->2)하면 6, 최소 비용은 5
+        double[][] cost = {
+                {4, 1, 3},
+                {2, 0, 5},
+                {3, 2, 2}
+        };
+
+        int[] result = HungarianAssignment.solve(cost);
+
+        assertArrayEquals(new int[]{1, 0, 2}, result);
+        assertEquals(5, cost[0][result[0]] + cost[1][result[1]] + cost[2][result[2]]);
+    }
+
+    @Test
+    void 호출이_기사보다_많은_경우_테스트() {
+        double[][] cost = {
+                {1, 9},
+                {9, 1},
+                {5, 5}
+        };
+
+        int[] result = HungarianAssignment.solve(cost);
+
+        // 기사 2명만 배정되고 가장 먼 호출은 배정되지 않음
+        assertArrayEquals(new int[]{0, 1, -1}, result);
+    }
+
+    @Test
+    void 기사가_호출보다_많은_경우_테스트() {
+        double[][] cost = {
+                {5, 1, 7}
+        };
+
+        assertArrayEquals(new int[]{1}, HungarianAssignment.solve(cost));
+    }
+
+    @Test
+    void 빈_입력_테스트() {
+        assertArrayEquals(new int[0], HungarianAssignment.solve(new double[0][0]));
+        assertArrayEquals(new int[]{-1, -1}, HungarianAssignment.solve(new double[2][0]));
+    }
+}
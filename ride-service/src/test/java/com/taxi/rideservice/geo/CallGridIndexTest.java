@@ -0,0 +1,88 @@
+package com.taxi.rideservice.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallGridIndexTest {
+
+    private CallGridIndex callGridIndex;
+
+    @BeforeEach
+    void setUp() {
+        callGridIndex = new CallGridIndex();
+        ReflectionTestUtils.setField(callGridIndex, "cellSizeDegree", 0.01);
+    }
+
+    @Test
+    void 반경_이내_호출_조회_테스트() {
+        // 강남역 기준 약 1km, 3km, 10km 떨어진 호출
+        callGridIndex.upsert("near@email.com", 37.5070, 127.0276);
+        callGridIndex.upsert("middle@email.com", 37.5250, 127.0276);
+        callGridIndex.upsert("far@email.com", 37.5800, 127.0276);
+
+        List<CallLocation> result = callGridIndex.findWithin(37.4979, 127.0276, 5);
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(location -> location.getPassengerEmail().equals("near@email.com")));
+        assertTrue(result.stream().anyMatch(location -> location.getPassengerEmail().equals("middle@email.com")));
+    }
+
+    @Test
+    void 가까운_순_개수_제한_조회_테스트() {
+        callGridIndex.upsert("middle@email.com", 37.5250, 127.0276);
+        callGridIndex.upsert("near@email.com", 37.5070, 127.0276);
+        callGridIndex.upsert("nearest@email.com", 37.4990, 127.0276);
+
+        List<NearbyCall> result = callGridIndex.findNearest(37.4979, 127.0276, 5, 2);
+
+        assertEquals(2, result.size());
+        assertEquals("nearest@email.com", result.get(0).getPassengerEmail());
+        assertEquals("near@email.com", result.get(1).getPassengerEmail());
+        assertTrue(result.get(0).getDistanceKm() < result.get(1).getDistanceKm());
+    }
+
+    @Test
+    void 오래된_호출_삭제_테스트() {
+        callGridIndex.upsert("old@email.com", 37.5070, 127.0276);
+
+        long cutoff = System.currentTimeMillis() + 1;
+
+        assertEquals(1, callGridIndex.removeIndexedBefore(cutoff));
+        assertEquals(0, callGridIndex.size());
+        assertTrue(callGridIndex.findWithin(37.5070, 127.0276, 1).isEmpty());
+    }
+
+    @Test
+    void 호출_위치_갱신_테스트() {
+        callGridIndex.upsert("passenger@email.com", 37.5800, 127.0276);
+        callGridIndex.upsert("passenger@email.com", 37.4980, 127.0276);
+
+        assertEquals(1, callGridIndex.size());
+        assertEquals(1, callGridIndex.findWithin(37.4979, 127.0276, 1).size());
+        assertTrue(callGridIndex.findWithin(37.5800, 127.0276, 1).isEmpty());
+    }
+
+    @Test
+    void 호출_삭제_테스트() {
+        callGridIndex.upsert("passenger@email.com", 37.4980, 127.0276);
+
+        callGridIndex.remove("passenger@email.com");
+        callGridIndex.remove("unknown@email.com");
+
+        assertEquals(0, callGridIndex.size());
+        assertTrue(callGridIndex.findWithin(37.4979, 127.0276, 5).isEmpty());
+    }
+
+    @Test
+    void 거리_계산_테스트() {
+        // 위도 0.01도 ≒ 1.11km
+        double distance = CallGridIndex.distanceKm(37.0, 127.0, 37.01, 127.0);
+
+        assertEquals(1.11, distance, 0.01);
+    }
+}
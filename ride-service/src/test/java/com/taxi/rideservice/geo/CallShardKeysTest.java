@@ -0,0 +1,62 @@
+package com.taxi.rideservice.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallShardKeysTest {
+
+    private CallShardKeys callShardKeys;
+
+    @BeforeEach
+    void setUp() {
+        callShardKeys = new CallShardKeys();
+        ReflectionTestUtils.setField(callShardKeys, "mode", "cell");
+        ReflectionTestUtils.setField(callShardKeys, "cellSizeDegree", 0.5);
+        ReflectionTestUtils.setField(callShardKeys, "includeLegacy", false);
+    }
+
+    @Test
+    void 단일_키_모드_테스트() {
+        ReflectionTestUtils.setField(callShardKeys, "mode", "single");
+
+        assertEquals("ride:request", callShardKeys.geoKeyOf(37.4979, 127.0276));
+        assertEquals("ride:request:expire", callShardKeys.expireKeyOf("ride:request"));
+        assertEquals(List.of("ride:request"), callShardKeys.coveringGeoKeys(37.4979, 127.0276, 5));
+    }
+
+    @Test
+    void 셀_키_해시_태그_테스트() {
+        String geoKey = callShardKeys.geoKeyOf(37.4979, 127.0276);
+
+        // Geo 키와 만료 키는 같은 해시 태그 (같은 슬롯)
+        assertEquals("ride:request:{254:614}", geoKey);
+        assertEquals("ride:request:expire:{254:614}", callShardKeys.expireKeyOf(geoKey));
+    }
+
+    @Test
+    void 반경을_덮는_셀_키_조회_테스트() {
+        // 셀 안쪽이면 한 개
+        assertEquals(List.of("ride:request:{254:614}"), callShardKeys.coveringGeoKeys(37.25, 127.25, 5));
+
+        // 셀 경계(37.5도)에 걸치면 이웃 셀도 함께 조회
+        List<String> keys = callShardKeys.coveringGeoKeys(37.4979, 127.25, 5);
+
+        assertEquals(2, keys.size());
+        assertTrue(keys.contains("ride:request:{254:614}"));
+        assertTrue(keys.contains("ride:request:{255:614}"));
+    }
+
+    @Test
+    void 이관_중_기존_키_함께_조회_테스트() {
+        ReflectionTestUtils.setField(callShardKeys, "includeLegacy", true);
+
+        List<String> keys = callShardKeys.coveringGeoKeys(37.25, 127.25, 5);
+
+        assertEquals(List.of("ride:request:{254:614}", "ride:request"), keys);
+    }
+}
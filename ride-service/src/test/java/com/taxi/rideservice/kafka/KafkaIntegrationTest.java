@@ -11,6 +11,7 @@ import com.taxi.rideservice.config.TestContainerConfig;
 import com.taxi.rideservice.dto.RideCallRequestDto;
 import com.taxi.rideservice.dto.RideCompleteDto;
 import com.taxi.rideservice.enums.RideStatus;
+import com.taxi.rideservice.service.RideEventOutbox;
 import com.taxi.rideservice.service.RideService;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -24,6 +25,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -59,6 +61,15 @@ public class KafkaIntegrationTest {
     @Autowired
     private ConsumerFactory<String, String> consumerFactory;
 
+    @Autowired
+    private RideEventOutbox rideEventOutbox;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private CountDownLatch latch = new CountDownLatch(1);
 
     @Test
@@ -103,7 +114,7 @@ public class KafkaIntegrationTest {
         rideInfoDto.setCapacity(4);
         rideInfoDto.setTotalRides(50);
 
-        rideProducer.sendRideAccept(rideInfoDto);
+        publishThroughOutbox("ride-accept", rideInfoDto.getRideId(), rideInfoDto);
 
         ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(10));
 
@@ -127,7 +138,7 @@ public class KafkaIntegrationTest {
         rideCancelDto.setDriverUserId(1L);
         rideCancelDto.setCancelTime(LocalDateTime.now());
 
-        rideProducer.sendRideCancel(rideCancelDto);
+        publishThroughOutbox("ride-cancel", rideCancelDto.getRideId(), rideCancelDto);
 
         ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(10));
 
@@ -151,7 +162,7 @@ public class KafkaIntegrationTest {
         rideStartDto.setStartLocation("start");
         rideStartDto.setEndLocation("end");
 
-        rideProducer.sendRideStart(rideStartDto);
+        publishThroughOutbox("ride-start", rideStartDto.getRideId(), rideStartDto);
 
         ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(10));
 
@@ -178,7 +189,7 @@ public class KafkaIntegrationTest {
         driveCompleteDto.setEndLocation("end");
         driveCompleteDto.setFare(50000);
 
-        rideProducer.sendRideComplete(driveCompleteDto);
+        publishThroughOutbox("ride-complete", driveCompleteDto.getRideId(), driveCompleteDto);
 
         ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(10));
 
@@ -191,4 +202,10 @@ public class KafkaIntegrationTest {
             assertEquals(driveCompleteDto.getFare(), readValue.getFare());
         }
     }
-}
\ No newline at end of file
+
+    // 운행 이벤트는 outbox에 저장된 뒤 relay를 통해 발행
+    private void publishThroughOutbox(String topic, Long rideId, Object event) {
+        transactionTemplate.executeWithoutResult(status -> rideEventOutbox.append(topic, rideId, event));
+        outboxRelay.relay();
+    }
+}
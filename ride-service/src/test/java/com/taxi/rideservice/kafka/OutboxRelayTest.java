@@ -0,0 +1,181 @@
+package com.taxi.rideservice.kafka;
+
+import com.taxi.rideservice.entity.OutboxEvent;
+import com.taxi.rideservice.repository.OutboxEventRepository;
+import com.taxi.rideservice.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+
+    @Mock
+    private RideProducer rideProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 3);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMs", 30000L);
+        ReflectionTestUtils.setField(outboxRelay, "instanceId", "ride-service-1");
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void outbox_batch_발행_테스트() {
+        when(outboxRelayLeaseRepository.acquire(eq("outbox-relay"), eq("ride-service-1"), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(outboxEventRepository.findRelayBatch(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "ride-accept"), event(2L, "ride-start")));
+        when(rideProducer.send(anyString(), anyString(), any(byte[].class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        // 저장된 순서대로 발행 후 한 번에 삭제
+        InOrder inOrder = inOrder(rideProducer);
+        inOrder.verify(rideProducer).send("ride-accept", "7", PAYLOAD);
+        inOrder.verify(rideProducer).send("ride-start", "7", PAYLOAD);
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+
+        // 조회와 삭제는 각각 짧은 트랜잭션, 발행은 트랜잭션 밖에서 처리
+        verify(transactionTemplate, times(2)).execute(any());
+        assertEquals(2.0, meterRegistry.counter("ride.outbox.published").count());
+    }
+
+    @Test
+    void outbox_발행_실패_이후_이벤트_유지_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findRelayBatch(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "ride-accept"), event(2L, "ride-start"), event(3L, "ride-complete")));
+        when(rideProducer.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        // 실패한 이벤트부터는 보내지 않고 다음 주기에 순서대로 다시 발행
+        verify(rideProducer, never()).send("ride-complete", "7", PAYLOAD);
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxEventRepository, times(1)).findRelayBatch(any(Pageable.class));
+        assertEquals(1.0, meterRegistry.counter("ride.outbox.failed").count());
+    }
+
+    @Test
+    void outbox_발행_실패한_운행만_중단_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findRelayBatch(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "ride-accept", "7"), event(2L, "ride-accept", "8"), event(3L, "ride-start", "7")));
+        when(rideProducer.send("ride-accept", "7", PAYLOAD)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(rideProducer.send("ride-accept", "8", PAYLOAD)).thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        // 다른 운행의 이벤트는 발행하고, 실패한 운행의 다음 이벤트는 보내지 않음
+        verify(rideProducer, never()).send("ride-start", "7", PAYLOAD);
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void outbox_발행_거절되면_나머지_발행하지_않음_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findRelayBatch(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "ride-accept", "7"), event(2L, "ride-accept", "8")));
+        when(rideProducer.send("ride-accept", "7", PAYLOAD)).thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("발행 대기 시간 초과")));
+
+        outboxRelay.relay();
+
+        verify(rideProducer, never()).send("ride-accept", "8", PAYLOAD);
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void 다른_인스턴스가_발행_중이면_발행하지_않음_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(0);
+        when(outboxRelayLeaseRepository.existsById("outbox-relay")).thenReturn(true);
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).findRelayBatch(any(Pageable.class));
+        verify(rideProducer, never()).send(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    void 처음_발행할_때_발행_권한_생성_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(0);
+        when(outboxRelayLeaseRepository.existsById("outbox-relay")).thenReturn(false);
+        when(outboxRelayLeaseRepository.create(any(), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findRelayBatch(any(Pageable.class))).thenReturn(List.of());
+
+        outboxRelay.relay();
+
+        verify(outboxRelayLeaseRepository, times(1)).create(eq("outbox-relay"), eq("ride-service-1"), any(LocalDateTime.class));
+        verify(outboxEventRepository, times(1)).findRelayBatch(any(Pageable.class));
+    }
+
+    @Test
+    void 동시에_발행_권한을_생성하면_발행하지_않음_테스트() {
+        when(outboxRelayLeaseRepository.acquire(any(), any(), any(), any())).thenReturn(0);
+        when(outboxRelayLeaseRepository.existsById("outbox-relay")).thenReturn(false);
+        // 확인 직후 다른 인스턴스가 먼저 생성 (덮어쓰지 않고 키 중복으로 실패)
+        when(outboxRelayLeaseRepository.create(any(), any(), any())).thenThrow(new DataIntegrityViolationException("Duplicate entry 'outbox-relay'"));
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).findRelayBatch(any(Pageable.class));
+        verify(rideProducer, never()).send(anyString(), anyString(), any(byte[].class));
+    }
+
+    private OutboxEvent event(Long id, String topic) {
+        return event(id, topic, "7");
+    }
+
+    private OutboxEvent event(Long id, String topic, String eventKey) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic(topic)
+                .eventKey(eventKey)
+                .payload(PAYLOAD)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.taxi.rideservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.service.BatchDispatchService;
+import com.taxi.rideservice.service.DispatchService;
+import com.taxi.rideservice.service.RideService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RideConsumerTest {
+
+    @InjectMocks
+    private RideConsumer rideConsumer;
+
+    @Mock
+    private RideService rideService;
+
+    @Mock
+    private DispatchService dispatchService;
+
+    @Mock
+    private BatchDispatchService batchDispatchService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final String message1 = "{\"passengerEmail\":\"email1@test.com\",\"startLatitude\":37.4979,\"startLongitude\":127.0276," +
+            "\"startLocation\":\"여기 어딘가\",\"endLatitude\":37.5665,\"endLongitude\":126.978,\"endLocation\":\"저기 어딘가\"}";
+    private final String message2 = "{\"passengerEmail\":\"email2@test.com\",\"startLatitude\":37.5,\"startLongitude\":127.03," +
+            "\"startLocation\":\"여기 어딘가\",\"endLatitude\":37.5665,\"endLongitude\":126.978,\"endLocation\":\"저기 어딘가\"}";
+
+    @BeforeEach
+    void setUp() {
+        rideConsumer.init();
+    }
+
+    @Test
+    void 호출_요청_일괄_수신_테스트() {
+        rideConsumer.consumeRideRequest(List.of(message1, "{잘못된 메시지", message2), acknowledgment);
+
+        // 변환할 수 없는 메시지는 건너뛰고 나머지를 한 번에 저장
+        ArgumentCaptor<List<RideCallRequestDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rideService, times(1)).saveCallRequests(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("email2@test.com", captor.getValue().get(1).getPassengerEmail());
+
+        verify(acknowledgment, times(1)).acknowledge();
+        verify(dispatchService, times(2)).dispatch(any(RideCallRequestDto.class));
+    }
+
+    @Test
+    void 호출_요청_저장_실패_테스트() {
+        doThrow(new CustomInternalException("저장 실패")).when(rideService).saveCallRequests(anyList());
+
+        assertThrows(CustomInternalException.class, () -> rideConsumer.consumeRideRequest(List.of(message1), acknowledgment));
+
+        // 커밋하지 않아 batch 전체를 다시 받음
+        verify(acknowledgment, never()).acknowledge();
+        verifyNoInteractions(dispatchService);
+    }
+}
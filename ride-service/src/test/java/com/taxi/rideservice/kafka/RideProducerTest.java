@@ -0,0 +1,106 @@
+package com.taxi.rideservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.exception.CustomInternalException;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RideProducerTest {
+
+    private static final byte[] PAYLOAD = "{}".getBytes(StandardCharsets.UTF_8);
+
+    @InjectMocks
+    private RideProducer rideProducer;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private RideEventSender rideEventSender;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RideCallRequestDto dto1 =
+            new RideCallRequestDto("email1@test.com", 37.4979, 127.0276, "여기 어딘가", 37.5665, 126.9780, "저기 어딘가");
+    private final RideCallRequestDto dto2 =
+            new RideCallRequestDto("email2@test.com", 37.4985, 127.0281, "여기 어딘가", 37.5665, 126.9780, "저기 어딘가");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rideProducer, "requestKeyCellSizeDegree", 0.02);
+        ReflectionTestUtils.setField(rideProducer, "maxInFlight", 1);
+        ReflectionTestUtils.setField(rideProducer, "requestWaitMs", 0L);
+        ReflectionTestUtils.setField(rideProducer, "queueWaitMs", 0L);
+        rideProducer.init();
+    }
+
+    @Test
+    void 호출_요청_출발지_셀_key_테스트() {
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        rideProducer.sendRideRequest(dto1);
+        rideProducer.sendRideRequest(dto2);
+
+        // 같은 구역의 호출은 같은 key (같은 파티션)
+        verify(kafkaTemplate, times(2)).send(eq("ride-request"), eq("6374:15351"), anyString());
+        assertEquals(2, meterRegistry.timer("ride.kafka.send", "topic", "ride-request", "result", "success").count());
+    }
+
+    @Test
+    void 발행_대기_초과_요청_거절_테스트() {
+        CompletableFuture<SendResult<String, String>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(pending);
+
+        rideProducer.sendRideRequest(dto1);
+
+        // 브로커 응답 전에는 발행 자리가 없으므로 요청 스레드를 붙잡지 않고 거절
+        assertThrows(CustomInternalException.class, () -> rideProducer.sendRideRequest(dto2));
+        assertTrue(rideProducer.send("ride-accept", "1", PAYLOAD).isCompletedExceptionally());
+        assertEquals(2.0, meterRegistry.get("ride.kafka.send.rejected").counters().stream().mapToDouble(c -> c.count()).sum());
+
+        // 응답이 오면 자리 반환
+        pending.complete(null);
+        rideProducer.sendRideRequest(dto2);
+
+        verify(kafkaTemplate, times(2)).send(eq("ride-request"), anyString(), anyString());
+    }
+
+    @Test
+    void 발행_실패_기록_테스트() {
+        when(rideEventSender.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("broker timeout")));
+
+        CompletableFuture<SendResult<String, byte[]>> result = rideProducer.send("ride-accept", "1", PAYLOAD);
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.counter("ride.kafka.send.failed", "topic", "ride-accept", "exception", "TimeoutException").count());
+        assertEquals(1, meterRegistry.timer("ride.kafka.send", "topic", "ride-accept", "result", "failure").count());
+        assertEquals(0.0, meterRegistry.get("ride.kafka.in-flight").gauge().value());
+    }
+}
@@ -0,0 +1,55 @@
+package com.taxi.rideservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.dto.UserChangedDto;
+import com.taxi.rideservice.client.UserInfoCache;
+import com.taxi.rideservice.service.RideService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventConsumerTest {
+
+    @InjectMocks
+    private UserEventConsumer userEventConsumer;
+
+    @Mock
+    private UserInfoCache userInfoCache;
+
+    @Mock
+    private RideService rideService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String message = "{\"userId\":2,\"email\":\"user@email.com\",\"name\":\"승객\",\"phoneNumber\":\"01099999999\"}";
+
+    @Test
+    void 요청_컨텍스트_없이_참여자_정보_갱신_테스트() {
+        // Kafka consumer 스레드에는 회원 요청(Authorization 헤더)이 없음
+        assertNull(RequestContextHolder.getRequestAttributes());
+
+        userEventConsumer.refreshRideParticipants(message);
+
+        // 이벤트에 담긴 회원 정보를 그대로 전달 (user-service 조회 없음)
+        verify(rideService, times(1)).refreshParticipants(argThat((UserChangedDto changed) ->
+                changed.getUserId() == 2L && "01099999999".equals(changed.getPhoneNumber()) && "승객".equals(changed.getName())));
+        verifyNoInteractions(userInfoCache);
+    }
+
+    @Test
+    void 회원_정보_변경_캐시_삭제_테스트() {
+        userEventConsumer.evictChangedUser(message);
+
+        verify(userInfoCache, times(1)).invalidate(2L, "user@email.com");
+        verifyNoInteractions(rideService);
+    }
+}
@@ -0,0 +1,124 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.dto.CallAcceptRequestDto;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.NearbyDriver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchDispatchServiceTest {
+
+    @InjectMocks
+    private BatchDispatchService batchDispatchService;
+
+    @Mock
+    private RideService rideService;
+
+    @Mock
+    private DriverLocationService driverLocationService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ThreadPoolTaskExecutor batchAcceptExecutor;
+
+    @BeforeEach
+    void setUp() {
+        // 배정 반영을 호출한 스레드에서 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(batchAcceptExecutor).execute(any(Runnable.class));
+
+        ReflectionTestUtils.setField(batchDispatchService, "enabled", true);
+        ReflectionTestUtils.setField(batchDispatchService, "zoneSizeDegree", 0.02);
+        ReflectionTestUtils.setField(batchDispatchService, "maxPickupKm", 3.0);
+        ReflectionTestUtils.setField(batchDispatchService, "driversPerCall", 2);
+        ReflectionTestUtils.setField(batchDispatchService, "maxWaitMs", 30000L);
+    }
+
+    @Test
+    void 구역_배차_픽업_거리_합_최소_배정_테스트() {
+        // 선착순이면 b가 driver1을 가져가 a는 먼 driver2를 배정받음
+        batchDispatchService.enqueue(call("b@email.com", 127.013));
+        batchDispatchService.enqueue(call("a@email.com", 127.003));
+
+        when(driverLocationService.findNearbyDrivers(anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(List.of(
+                        new NearbyDriver("driver1@test.com", 0.1, 37.505, 127.008),
+                        new NearbyDriver("driver2@test.com", 0.9, 37.505, 127.019)));
+
+        batchDispatchService.dispatchBatch();
+
+        ArgumentCaptor<CallAcceptRequestDto> accepted = ArgumentCaptor.forClass(CallAcceptRequestDto.class);
+        verify(rideService, times(2)).acceptCall(accepted.capture());
+
+        Map<String, String> pairs = accepted.getAllValues().stream()
+                .collect(Collectors.toMap(CallAcceptRequestDto::getPassengerEmail, CallAcceptRequestDto::getDriverEmail));
+
+        assertEquals("driver1@test.com", pairs.get("a@email.com"));
+        assertEquals("driver2@test.com", pairs.get("b@email.com"));
+    }
+
+    @Test
+    void 최대_픽업_거리_초과_기사는_배정하지_않음_테스트() {
+        batchDispatchService.enqueue(call("a@email.com", 127.003));
+
+        // 약 9km 떨어진 기사
+        when(driverLocationService.findNearbyDrivers(anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 9.0, 37.505, 127.105)));
+
+        batchDispatchService.dispatchBatch();
+
+        verify(rideService, never()).acceptCall(any(CallAcceptRequestDto.class));
+    }
+
+    @Test
+    void 배정_반영_대기열_초과_시_다음_배치에서_다시_배정_테스트() {
+        batchDispatchService.enqueue(call("a@email.com", 127.003));
+
+        when(driverLocationService.findNearbyDrivers(anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 0.1, 37.505, 127.008)));
+        doThrow(new TaskRejectedException("full"))
+                .doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(batchAcceptExecutor).execute(any(Runnable.class));
+
+        batchDispatchService.dispatchBatch();
+
+        verify(rideService, never()).acceptCall(any(CallAcceptRequestDto.class));
+
+        batchDispatchService.dispatchBatch();
+
+        verify(rideService, times(1)).acceptCall(any(CallAcceptRequestDto.class));
+    }
+
+    private RideCallRequestDto call(String passengerEmail, double longitude) {
+        return new RideCallRequestDto(passengerEmail, 37.505, longitude, "출발지", 37.6, 127.1, "목적지");
+    }
+}
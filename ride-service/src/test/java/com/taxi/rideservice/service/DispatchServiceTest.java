@@ -0,0 +1,131 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.common.core.dto.RideOfferDto;
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.NearbyDriver;
+import com.taxi.rideservice.kafka.RideProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchServiceTest {
+
+    @InjectMocks
+    private DispatchService dispatchService;
+
+    @Mock
+    private RideService rideService;
+
+    @Mock
+    private DriverLocationService driverLocationService;
+
+    @Mock
+    private RideProducer rideProducer;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private RideCallRequestDto dto;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatchService, "enabled", true);
+        ReflectionTestUtils.setField(dispatchService, "candidates", 2);
+        ReflectionTestUtils.setField(dispatchService, "radiusKm", 5.0);
+        ReflectionTestUtils.setField(dispatchService, "offerTimeoutMs", 15000L);
+        ReflectionTestUtils.setField(dispatchService, "maxRounds", 3);
+
+        dto = new RideCallRequestDto("user@email.com", 37.1, 127.1,
+                "출발지", 37.2, 127.2, "목적지");
+    }
+
+    @Test
+    void 가까운_기사에게_제안_후_만료_시_다음_기사에게_제안_테스트() {
+        when(rideService.isCallPending("user@email.com")).thenReturn(true);
+        when(driverLocationService.findNearbyDrivers(eq(37.1), eq(127.1), anyDouble(), anyInt()))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 0.3, 37.101, 127.101), new NearbyDriver("driver2@test.com", 0.8, 37.105, 127.105)))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 0.3, 37.101, 127.101), new NearbyDriver("driver2@test.com", 0.8, 37.105, 127.105),
+                        new NearbyDriver("driver3@test.com", 1.5, 37.11, 127.11)));
+
+        dispatchService.dispatch(dto);
+
+        ArgumentCaptor<Runnable> nextRound = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(nextRound.capture(), any(Instant.class));
+
+        // 만료 후 다음 라운드 실행
+        nextRound.getValue().run();
+
+        ArgumentCaptor<RideOfferDto> offers = ArgumentCaptor.forClass(RideOfferDto.class);
+        verify(rideProducer, times(3)).sendRideOffer(offers.capture());
+
+        List<RideOfferDto> sent = offers.getAllValues();
+        assertEquals("driver1@test.com", sent.get(0).getDriverEmail());
+        assertEquals("driver2@test.com", sent.get(1).getDriverEmail());
+        assertEquals("driver3@test.com", sent.get(2).getDriverEmail());
+        assertEquals("user@email.com", sent.get(2).getPassengerEmail());
+    }
+
+    @Test
+    void 이미_수락된_호출은_다음_라운드_중단_테스트() {
+        when(rideService.isCallPending("user@email.com")).thenReturn(true, false);
+        when(driverLocationService.findNearbyDrivers(eq(37.1), eq(127.1), anyDouble(), anyInt()))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 0.3, 37.101, 127.101)));
+
+        dispatchService.dispatch(dto);
+
+        ArgumentCaptor<Runnable> nextRound = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(nextRound.capture(), any(Instant.class));
+
+        nextRound.getValue().run();
+
+        verify(rideProducer, times(1)).sendRideOffer(any(RideOfferDto.class));
+        verify(driverLocationService, times(1)).findNearbyDrivers(anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void 다시_호출하면_이전_호출의_제안_중단_테스트() {
+        when(rideService.isCallPending("user@email.com")).thenReturn(true);
+        when(driverLocationService.findNearbyDrivers(eq(37.1), eq(127.1), anyDouble(), anyInt()))
+                .thenReturn(List.of(new NearbyDriver("driver1@test.com", 0.3, 37.101, 127.101)));
+
+        // 같은 승객이 다시 호출
+        dispatchService.dispatch(dto);
+        dispatchService.dispatch(dto);
+
+        ArgumentCaptor<Runnable> nextRound = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(2)).schedule(nextRound.capture(), any(Instant.class));
+
+        // 이전 호출의 다음 라운드는 새 호출의 목록을 이어받지 않고 종료
+        nextRound.getAllValues().get(0).run();
+
+        verify(rideProducer, times(2)).sendRideOffer(any(RideOfferDto.class));
+        verify(driverLocationService, times(2)).findNearbyDrivers(anyDouble(), anyDouble(), anyDouble(), anyInt());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void 비활성화_시_제안하지_않음_테스트() {
+        ReflectionTestUtils.setField(dispatchService, "enabled", false);
+
+        dispatchService.dispatch(dto);
+
+        verifyNoInteractions(rideService, driverLocationService, rideProducer, taskScheduler);
+    }
+}
@@ -0,0 +1,98 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.dto.DriverLocationUpdateDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DriverLocationServiceTest {
+
+    @InjectMocks
+    private DriverLocationService driverLocationService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private GeoOperations<String, String> geoOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Test
+    void 기사_위치_일괄_반영_테스트() {
+        // 같은 기사의 위치는 마지막 값만 반영
+        driverLocationService.updateLocation(new DriverLocationUpdateDto("waiting@test.com", 37.1, 127.1));
+        driverLocationService.updateLocation(new DriverLocationUpdateDto("waiting@test.com", 37.2, 127.2));
+        driverLocationService.updateLocation(new DriverLocationUpdateDto("offline@test.com", 37.3, 127.3));
+
+        // 대기중 확인과 반영은 스크립트 안에서 한 번에 처리 (대기중인 기사 1명만 반영)
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("driver:waiting", "driver:location", "driver:location:seen")), any(Object[].class)))
+                .thenReturn(1L);
+
+        driverLocationService.flushLocations();
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), args.capture());
+
+        List<Object> values = Arrays.asList(args.getValue());
+        int index = values.indexOf("waiting@test.com");
+
+        assertEquals(7, values.size());
+        assertEquals("127.2", values.get(index + 1));
+        assertEquals("37.2", values.get(index + 2));
+        assertEquals(1.0, meterRegistry.counter("ride.driver-location.written").count());
+
+        // 반영된 위치는 다시 반영하지 않음
+        driverLocationService.flushLocations();
+
+        verifyNoMoreInteractions(redisTemplate);
+        verifyNoInteractions(setOperations, geoOperations);
+    }
+
+    @Test
+    void 기사_대기_해제_테스트() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        driverLocationService.markUnavailable("driver@test.com");
+
+        verify(setOperations, times(1)).remove("driver:waiting", "driver@test.com");
+        verify(zSetOperations, times(1)).remove("driver:location", "driver@test.com");
+        verify(zSetOperations, times(1)).remove("driver:location:seen", "driver@test.com");
+    }
+
+    @Test
+    void 대기중_기사_일괄_등록_테스트() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        driverLocationService.markAllWaiting(List.of("driver1@test.com", "driver2@test.com"));
+        driverLocationService.markAllWaiting(List.of());
+
+        verify(setOperations, times(1)).add("driver:waiting", "driver1@test.com", "driver2@test.com");
+    }
+}
@@ -2,7 +2,7 @@ package com.taxi.rideservice.service;
 
 import com.taxi.common.core.dto.UserDto;
 import com.taxi.common.core.exception.CustomBadRequestException;
-import com.taxi.rideservice.client.UserServiceClient;
+import com.taxi.rideservice.client.UserInfoCache;
 import com.taxi.rideservice.dto.DriverRegisterDto;
 import com.taxi.rideservice.dto.DriverStatusUpdateDto;
 import com.taxi.rideservice.dto.DriverUpdateDto;
@@ -11,10 +11,18 @@ import com.taxi.rideservice.enums.DriverStatus;
 import com.taxi.rideservice.repository.DriverRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,7 +39,13 @@ class DriverServiceTest {
     private DriverRepository driverRepository;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserInfoCache userInfoCache;
+
+    @Mock
+    private DriverLocationService driverLocationService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @Test
     void 기사_정보_저장() {
@@ -75,7 +89,7 @@ class DriverServiceTest {
         DriverUpdateDto dto =
                 new DriverUpdateDto("test@email.com", "123나4567", 10, "카니발", "12903047382", "01012341234");
 
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto);
+        when(userInfoCache.getUserInfoByEmail(anyString())).thenReturn(userDto);
         when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
 
         driverService.updateDriver(dto);
@@ -92,7 +106,7 @@ class DriverServiceTest {
         DriverUpdateDto dto =
                 new DriverUpdateDto("test@email.com", "123나4567", 10, "카니발", "12903047382", "01012341234");
 
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto);
+        when(userInfoCache.getUserInfoByEmail(anyString())).thenReturn(userDto);
         when(driverRepository.findByUserId(anyLong())).thenReturn(null);
 
         assertThrows(CustomBadRequestException.class, () -> driverService.updateDriver(dto));
@@ -108,17 +122,46 @@ class DriverServiceTest {
                 .phoneNumber("01012341234")
                 .userId(1L)
                 .driverStatus(DriverStatus.OFFLINE)
+                .version(0L) // 저장된 기사
                 .build();
 
         UserDto userDto = new UserDto(1L, "기사", "01012341234", "driver@email.com");
         DriverStatusUpdateDto dto = new DriverStatusUpdateDto("email@test.com", "WAITING");
 
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto);
+        when(userInfoCache.getUserInfoByEmail(anyString())).thenReturn(userDto);
         when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
+        when(driverRepository.updateStatus(any(), eq(DriverStatus.OFFLINE), eq(0L), eq(DriverStatus.WAITING))).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         driverService.updateDriverStatus(dto);
 
         assertEquals(DriverStatus.WAITING, driver.getDriverStatus());
+
+        // 상태 변경 트랜잭션이 끝난 뒤 위치 갱신 허용
+        InOrder inOrder = inOrder(transactionTemplate, driverLocationService);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(driverLocationService, times(1)).markWaiting("email@test.com");
+    }
+
+    @Test
+    void 기사_운행_상태_수정_실패_동시_변경() {
+        Driver driver = Driver.builder()
+                .userId(1L)
+                .driverStatus(DriverStatus.OFFLINE)
+                .version(0L) // 저장된 기사
+                .build();
+
+        UserDto userDto = new UserDto(1L, "기사", "01012341234", "driver@email.com");
+        DriverStatusUpdateDto dto = new DriverStatusUpdateDto("email@test.com", "WAITING");
+
+        when(userInfoCache.getUserInfoByEmail(anyString())).thenReturn(userDto);
+        when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(0);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        assertThrows(CustomBadRequestException.class, () -> driverService.updateDriverStatus(dto));
+        assertEquals(DriverStatus.OFFLINE, driver.getDriverStatus());
+        verify(driverLocationService, never()).markWaiting(anyString());
     }
 
     @Test
@@ -126,10 +169,40 @@ class DriverServiceTest {
         UserDto userDto = new UserDto(1L, "기사", "01012341234", "driver@email.com");
         DriverStatusUpdateDto dto = new DriverStatusUpdateDto("email@test.com", "WAITING");
 
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto);
+        when(userInfoCache.getUserInfoByEmail(anyString())).thenReturn(userDto);
         when(driverRepository.findByUserId(anyLong())).thenReturn(null);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         assertThrows(CustomBadRequestException.class, () -> driverService.updateDriverStatus(dto));
     }
 
+    @Test
+    void 기사_운행_상태_수정_커밋_실패시_대기중_등록_안함() {
+        DriverStatusUpdateDto dto = new DriverStatusUpdateDto("email@test.com", "WAITING");
+
+        // 커밋 실패 (롤백)
+        when(transactionTemplate.execute(any())).thenThrow(new TransactionSystemException("commit failed"));
+
+        assertThrows(TransactionSystemException.class, () -> driverService.updateDriverStatus(dto));
+        verifyNoInteractions(driverLocationService);
+    }
+
+    @Test
+    void 기동_시_대기중_기사_목록_재구성() {
+        Driver first = Driver.builder().id(1L).userId(10L).driverStatus(DriverStatus.WAITING).build();
+        Driver second = Driver.builder().id(2L).userId(20L).driverStatus(DriverStatus.WAITING).build();
+
+        when(driverRepository.findByDriverStatusAndIdGreaterThanOrderById(eq(DriverStatus.WAITING), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(userInfoCache.findUserInfoById(10L))
+                .thenReturn(CompletableFuture.completedFuture(new UserDto(10L, "기사1", "01011112222", "driver1@email.com")));
+        when(userInfoCache.findUserInfoById(20L))
+                .thenReturn(CompletableFuture.failedFuture(new CustomBadRequestException("정보가 없는 회원입니다.")));
+
+        driverService.rebuildWaitingDrivers();
+
+        // 조회에 실패한 기사만 제외하고 등록
+        verify(driverLocationService, times(1)).markAllWaiting(List.of("driver1@email.com"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.taxi.rideservice.service;
+
+import com.taxi.rideservice.dto.RideCallRequestDto;
+import com.taxi.rideservice.geo.CallShardKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingCallWriterTest {
+
+    @InjectMocks
+    private PendingCallWriter pendingCallWriter;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private CallDetailStore callDetailStore;
+
+    @Spy
+    private CallShardKeys callShardKeys = new CallShardKeys();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisGeoCommands geoCommands;
+
+    @Mock
+    private RedisZSetCommands zSetCommands;
+
+    private final RideCallRequestDto dto1 =
+            new RideCallRequestDto("email1@test.com", 37.4979, 127.0276, "여기 어딘가", 37.5665, 126.9780, "저기 어딘가");
+    private final RideCallRequestDto dto2 =
+            new RideCallRequestDto("email2@test.com", 37.5000, 127.0300, "여기 어딘가", 37.5665, 126.9780, "저기 어딘가");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(callShardKeys, "mode", "single");
+        ReflectionTestUtils.setField(callShardKeys, "includeLegacy", true);
+    }
+
+    @Test
+    void 호출_일괄_저장_파이프라인_테스트() {
+        when(connection.geoCommands()).thenReturn(geoCommands);
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        runPipeline(6);
+
+        pendingCallWriter.saveAll(List.of(dto1, dto2), Duration.ofSeconds(600));
+
+        // 두 호출의 명령을 한 번의 파이프라인으로 전송
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(geoCommands).geoAdd(eq(bytes("ride:request")), any(Point.class), eq(bytes("email1@test.com")));
+        verify(geoCommands).geoAdd(eq(bytes("ride:request")), any(Point.class), eq(bytes("email2@test.com")));
+        verify(zSetCommands).zAdd(eq(bytes("ride:request:expire")), anyDouble(), eq(bytes("email1@test.com")));
+        verify(callDetailStore).save(connection, dto1, Duration.ofSeconds(600));
+        verify(callDetailStore).save(connection, dto2, Duration.ofSeconds(600));
+        verify(connection, never()).setCommands();
+        assertEquals(6.0, meterRegistry.summary("ride.redis.pipeline.commands", "operation", "save").totalAmount());
+    }
+
+    @Test
+    void 선점_호출_삭제_파이프라인_테스트() {
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        runPipeline(2);
+
+        pendingCallWriter.removeAll(List.of(dto1));
+
+        // 단일 키 모드에서는 기존 키와 같은 키이므로 한 번만 삭제
+        verify(zSetCommands, times(1)).zRem(bytes("ride:request"), bytes("email1@test.com"));
+        verify(zSetCommands, times(1)).zRem(bytes("ride:request:expire"), bytes("email1@test.com"));
+        assertEquals(1, meterRegistry.summary("ride.redis.pipeline.commands", "operation", "remove").count());
+    }
+
+    @Test
+    void 빈_목록_테스트() {
+        pendingCallWriter.saveAll(List.of(), Duration.ofSeconds(600));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private void runPipeline(int commandCount) {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+
+            return Collections.nCopies(commandCount, 1L);
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -10,6 +10,7 @@ import com.taxi.rideservice.config.TestContainerConfig;
 import com.taxi.rideservice.dto.*;
 import com.taxi.rideservice.entity.Driver;
 import com.taxi.rideservice.entity.Ride;
+import com.taxi.rideservice.entity.RideParticipants;
 import com.taxi.rideservice.enums.DriverStatus;
 import com.taxi.rideservice.enums.RideStatus;
 import com.taxi.rideservice.repository.DriverRepository;
@@ -56,6 +57,10 @@ public class RideServiceIntegrationTest {
     private String GEO_KEY = "ride:request";
     private String DETAIL_KEY_PREFIX = "ride:detail:";
 
+    private final RideParticipants participants = RideParticipants.of(
+            new UserDto(0L, "승객", "01012341234", "passenger@email.com"),
+            new UserDto(1L, "기사", "01056785678", "driver@email.com"));
+
     @Test
     void 택시_호출_테스트() throws JsonProcessingException {
         RideCallRequestDto dto =
@@ -157,6 +162,12 @@ public class RideServiceIntegrationTest {
         assertNotNull(rideInfoDto);
         assertEquals(callRequestDto.getStartLocation(), rideInfoDto.getStartLocation());
         assertEquals(callRequestDto.getEndLocation(), rideInfoDto.getEndLocation());
+
+        // 새 운행으로 저장되어 id, 수락 시간이 채워짐
+        assertNotNull(rideInfoDto.getRideId());
+        assertNotNull(rideInfoDto.getAcceptTime());
+        assertEquals(0L, rideRepository.findById(rideInfoDto.getRideId()).orElseThrow().getVersion());
+        assertEquals(1L, driverRepository.findById(driver.getId()).orElseThrow().getVersion());
     }
 
     @Test
@@ -184,6 +195,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.ACCEPT)
                 .build();
 
@@ -220,6 +232,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.DRIVING)
                 .build();
 
@@ -253,6 +266,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.ACCEPT)
                 .build();
 
@@ -289,6 +303,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.CANCEL)
                 .build();
 
@@ -322,6 +337,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.ACCEPT)
                 .build();
 
@@ -355,6 +371,7 @@ public class RideServiceIntegrationTest {
                 .endLatitude(50.2)
                 .endLongitude(50.3)
                 .endLocation("end")
+                .participants(participants)
                 .rideStatus(RideStatus.DRIVING)
                 .build();
 
@@ -1,35 +1,56 @@
 package com.taxi.rideservice.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.dto.RideAcceptDto;
+import com.taxi.common.core.dto.RideCancelDto;
+import com.taxi.common.core.dto.RideStartDto;
+import com.taxi.common.core.dto.UserChangedDto;
 import com.taxi.common.core.dto.UserDto;
 import com.taxi.common.core.exception.CustomBadRequestException;
 import com.taxi.common.core.exception.CustomInternalException;
-import com.taxi.rideservice.client.UserServiceClient;
+import com.taxi.rideservice.client.UserInfoCache;
 import com.taxi.rideservice.dto.*;
 import com.taxi.rideservice.entity.Driver;
 import com.taxi.rideservice.entity.Ride;
+import com.taxi.rideservice.entity.RideParticipants;
 import com.taxi.rideservice.enums.DriverStatus;
 import com.taxi.rideservice.enums.RideStatus;
+import com.taxi.rideservice.geo.CallGridIndex;
+import com.taxi.rideservice.geo.CallShardKeys;
+import com.taxi.rideservice.geo.NearbyCall;
 import com.taxi.rideservice.repository.DriverRepository;
 import com.taxi.rideservice.repository.RideRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.geo.*;
 import org.springframework.data.redis.connection.RedisGeoCommands;
 import org.springframework.data.redis.core.GeoOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.ActiveProfiles;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -47,67 +68,86 @@ class RideServiceTest {
     private DriverRepository driverRepository;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserInfoCache userInfoCache;
 
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private CallDetailStore callDetailStore;
+
+    @Mock
+    private PendingCallWriter pendingCallWriter;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RideEventOutbox rideEventOutbox;
 
     @Mock
     private GeoOperations<String, String> geoOperations;
 
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private CallGridIndex callGridIndex;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DriverLocationService driverLocationService;
+
+    @Spy
+    private CallShardKeys callShardKeys = new CallShardKeys();
+
+    @Mock
+    private ThreadPoolTaskExecutor callShardExecutor;
+
+    private final RideParticipants participants = RideParticipants.of(
+            new UserDto(2L, "승객", "01012341234", "user@email.com"),
+            new UserDto(1L, "기사", "01056785678", "driver@email.com"));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rideService, "initialRadiusKm", 5.0);
+        ReflectionTestUtils.setField(rideService, "maxRadiusKm", 5.0);
+        ReflectionTestUtils.setField(rideService, "defaultLimit", 20);
+        ReflectionTestUtils.setField(rideService, "maxLimit", 50);
+        ReflectionTestUtils.setField(rideService, "callTtlSeconds", 600L);
+        ReflectionTestUtils.setField(rideService, "sweepBatchSize", 2);
+        ReflectionTestUtils.setField(rideService, "lookupTimeoutMs", 100L);
+    }
+
     @Test
-    void 택시_호출_테스트() throws JsonProcessingException {
+    void 택시_호출_테스트() {
         RideCallRequestDto dto =
                 new RideCallRequestDto("test@email.com", 48.123123, 85.456456, "여기 어딘가",
                         28.123123, 35.456456, "저기 어딘가");
 
-        String key = "ride:detail:" + dto.getPassengerEmail();
-        String value = "{\"passengerEmail\":\"test@email.com\", \"startLatitude\":48.123123,\"startLongitude\":85.456456,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":28.123123,\"endLongitude\":35.456456,\"endLocation\":\"저기 어딘가\"";
-
-        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(objectMapper.writeValueAsString(dto)).thenReturn(value);
-
         rideService.saveCallRequest(dto);
 
-        verify(geoOperations, times(1)).add(eq("ride:request"), any(Point.class), eq(dto.getPassengerEmail()));
-        verify(valueOperations, times(1)).set(eq(key), eq(value));
+        verify(pendingCallWriter, times(1)).saveAll(List.of(dto), Duration.ofSeconds(600));
     }
 
     @Test
-    void 택시_호출_실패_테스트() throws JsonProcessingException {
+    void 택시_호출_실패_테스트() {
         RideCallRequestDto dto =
                 new RideCallRequestDto("test@email.com", 48.123123, 85.456456, "여기 어딘가",
                         28.123123, 35.456456, "저기 어딘가");
 
-        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
-        when(objectMapper.writeValueAsString(dto)).thenThrow(JsonProcessingException.class);
+        doThrow(new CustomInternalException("호출 정보 변환 중 오류가 발생하였습니다.")).when(pendingCallWriter).saveAll(List.of(dto), Duration.ofSeconds(600));
 
         Assertions.assertThrows(CustomInternalException.class, () -> rideService.saveCallRequest(dto));
     }
 
     @Test
-    void 택시_호출_목록_테스트() throws JsonProcessingException {
-        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1);
+    void 택시_호출_목록_테스트() {
+        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1, null);
 
         when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-        String key1 = "ride:detail:email1@test.com";
-        String value1 = "{\"passengerEmail\":\"email1@test.com\", \"startLatitude\":50.0,\"startLongitude\":49.0,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
-
-        String key2 = "ride:detail:email2@test.com";
-        String value2 = "{\"passengerEmail\":\"email2@test.com\", \"startLatitude\":50.2,\"startLongitude\":49.2,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
-
         RideCallRequestDto dto1 = new RideCallRequestDto("email1@test.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
         RideCallRequestDto dto2 = new RideCallRequestDto("email2@test.com", 50.2, 49.2, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
 
@@ -116,56 +156,149 @@ class RideServiceTest {
                 new GeoResult<>(new RedisGeoCommands.GeoLocation<>("email2@test.com", new Point(50.2, 49.2)), new Distance(4))
         ));
 
-        when(geoOperations.radius(eq("ride:request"), any(Circle.class))).thenReturn(results);
-
-        when(valueOperations.get(key1)).thenReturn(value1);
-        when(valueOperations.get(key2)).thenReturn(value2);
+        when(geoOperations.radius(eq("ride:request"), any(Circle.class), any(RedisGeoCommands.GeoRadiusCommandArgs.class))).thenReturn(results);
 
-        when(objectMapper.readValue(value1, RideCallRequestDto.class)).thenReturn(dto1);
-        when(objectMapper.readValue(value2, RideCallRequestDto.class)).thenReturn(dto2);
+        when(callDetailStore.findAll(List.of("email1@test.com", "email2@test.com"))).thenReturn(List.of(dto1, dto2));
 
         List<CallResponseDto> nearbyCall = rideService.findNearbyCall(dto);
 
         assertEquals(2, nearbyCall.size());
         assertEquals("email1@test.com", nearbyCall.get(0).getPassengerEmail());
         assertEquals("email2@test.com", nearbyCall.get(1).getPassengerEmail());
+        assertEquals(3.0, nearbyCall.get(0).getDistanceKm());
+        assertEquals(2.0, meterRegistry.summary("ride.find.redis.round-trips").totalAmount());
     }
 
     @Test
-    void 택시_호출_목록_실패_테스트() throws JsonProcessingException {
-        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1);
+    void 택시_호출_목록_실패_테스트() {
+        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1, null);
 
         when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = new GeoResults<>(List.of(
+                new GeoResult<>(new RedisGeoCommands.GeoLocation<>("email1@test.com", new Point(50.0, 49.0)), new Distance(3)),
+                new GeoResult<>(new RedisGeoCommands.GeoLocation<>("email2@test.com", new Point(50.2, 49.2)), new Distance(4))
+        ));
+
+        when(geoOperations.radius(eq("ride:request"), any(Circle.class), any(RedisGeoCommands.GeoRadiusCommandArgs.class))).thenReturn(results);
+
+        when(callDetailStore.findAll(List.of("email1@test.com", "email2@test.com")))
+                .thenThrow(new CustomInternalException("호출 정보 변환 중 오류가 발생하였습니다."));
+
+        assertThrows(CustomInternalException.class, () -> rideService.findNearbyCall(dto));
+    }
+
+    @Test
+    void 택시_호출_목록_인덱스_조회_테스트() {
+        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1, null);
+
+        RideCallRequestDto dto1 = new RideCallRequestDto("email1@test.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
+
+        when(callGridIndex.isReady()).thenReturn(true);
+        when(callGridIndex.findNearest(eq(50.1), eq(49.1), anyDouble(), eq(20))).thenReturn(List.of(
+                new NearbyCall("email1@test.com", 1.2),
+                new NearbyCall("accepted@test.com", 1.5)
+        ));
+        when(callDetailStore.findAll(List.of("email1@test.com", "accepted@test.com"))).thenReturn(Arrays.asList(dto1, null));
+
+        List<CallResponseDto> nearbyCall = rideService.findNearbyCall(dto);
+
+        assertEquals(1, nearbyCall.size());
+        assertEquals("email1@test.com", nearbyCall.get(0).getPassengerEmail());
+        verify(redisTemplate, never()).opsForGeo();
+        assertEquals(1.0, meterRegistry.summary("ride.find.redis.round-trips").totalAmount());
+    }
 
-        String key1 = "ride:detail:email1@test.com";
-        String value1 = "{\"passengerEmail\":\"email1@test.com\", \"startLatitude\":50.0,\"startLongitude\":49.0,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
+    @Test
+    void 택시_호출_목록_반경_확장_테스트() {
+        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1, 2);
 
-        String key2 = "ride:detail:email2@test.com";
-        String value2 = "{\"passengerEmail\":\"email2@test.com\", \"startLatitude\":50.2,\"startLongitude\":49.2,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
+        ReflectionTestUtils.setField(rideService, "initialRadiusKm", 1.0);
 
         RideCallRequestDto dto1 = new RideCallRequestDto("email1@test.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
         RideCallRequestDto dto2 = new RideCallRequestDto("email2@test.com", 50.2, 49.2, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
 
-        GeoResults<RedisGeoCommands.GeoLocation<String>> results = new GeoResults<>(List.of(
-                new GeoResult<>(new RedisGeoCommands.GeoLocation<>("email1@test.com", new Point(50.0, 49.0)), new Distance(3)),
-                new GeoResult<>(new RedisGeoCommands.GeoLocation<>("email2@test.com", new Point(50.2, 49.2)), new Distance(4))
+        // 1km 에서 1개만 찾으면 2km 로 넓혀서 다시 조회 (2개를 찾으면 중단)
+        when(callGridIndex.isReady()).thenReturn(true);
+        when(callGridIndex.findNearest(50.1, 49.1, 1.0, 2)).thenReturn(List.of(new NearbyCall("email1@test.com", 0.4)));
+        when(callGridIndex.findNearest(50.1, 49.1, 2.0, 2)).thenReturn(List.of(
+                new NearbyCall("email1@test.com", 0.4),
+                new NearbyCall("email2@test.com", 1.7)
         ));
+        when(callDetailStore.findAll(List.of("email1@test.com", "email2@test.com"))).thenReturn(List.of(dto1, dto2));
 
-        when(geoOperations.radius(eq("ride:request"), any(Circle.class))).thenReturn(results);
+        List<CallResponseDto> nearbyCall = rideService.findNearbyCall(dto);
 
-        when(objectMapper.readValue(value1, RideCallRequestDto.class)).thenThrow(JsonProcessingException.class);
+        assertEquals(2, nearbyCall.size());
+        assertEquals("email1@test.com", nearbyCall.get(0).getPassengerEmail());
+        assertEquals(0.4, nearbyCall.get(0).getDistanceKm());
+        assertEquals(1.7, nearbyCall.get(1).getDistanceKm());
+        verify(callGridIndex, never()).findNearest(anyDouble(), anyDouble(), eq(4.0), anyInt());
+    }
 
-        assertThrows(CustomInternalException.class, () -> rideService.findNearbyCall(dto));
+    @Test
+    void 택시_호출_목록_드문_지역_최대_반경까지_확장_테스트() {
+        FindCallRequestDto dto = new FindCallRequestDto(50.1, 49.1, 2);
+
+        ReflectionTestUtils.setField(rideService, "initialRadiusKm", 1.0);
+        ReflectionTestUtils.setField(rideService, "maxRadiusKm", 20.0);
+
+        RideCallRequestDto dto1 = new RideCallRequestDto("email1@test.com", 50.2, 49.2, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
+
+        // 1, 2, 4, 8, 16km 에서 찾지 못하면 최대 반경(20km)까지 넓힘
+        when(callGridIndex.isReady()).thenReturn(true);
+        when(callGridIndex.findNearest(eq(50.1), eq(49.1), anyDouble(), eq(2))).thenReturn(List.of());
+        when(callGridIndex.findNearest(50.1, 49.1, 20.0, 2)).thenReturn(List.of(new NearbyCall("email1@test.com", 17.5)));
+        when(callDetailStore.findAll(List.of("email1@test.com"))).thenReturn(List.of(dto1));
+
+        List<CallResponseDto> nearbyCall = rideService.findNearbyCall(dto);
+
+        assertEquals(1, nearbyCall.size());
+        assertEquals(17.5, nearbyCall.get(0).getDistanceKm());
+        verify(callGridIndex, times(6)).findNearest(eq(50.1), eq(49.1), anyDouble(), eq(2));
     }
 
     @Test
-    void 호출_수락_테스트() throws JsonProcessingException {
+    void 만료_호출_정리_테스트() {
+        // 배치 크기(2)만큼 삭제되면 한 번 더 정리
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ride:request:expire", "ride:request")), anyString(), eq("2")))
+                .thenReturn(List.of("expired1@test.com", "expired2@test.com"))
+                .thenReturn(List.of("expired3@test.com"));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.zCard("ride:request")).thenReturn(7L);
+
+        rideService.registerMetrics();
+        rideService.sweepExpiredCalls();
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+        verify(callGridIndex).remove("expired1@test.com");
+        verify(callGridIndex).remove("expired3@test.com");
+        verify(callGridIndex).removeIndexedBefore(anyLong());
+        assertEquals(3.0, meterRegistry.counter("ride.call.expired").count());
+        assertEquals(7.0, meterRegistry.get("ride.call.pending").gauge().value());
+    }
+
+    @Test
+    void 호출_인덱스_재구성_수락된_호출_제외_테스트() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
+        when(zSetOperations.range("ride:request", 0, -1)).thenReturn(new LinkedHashSet<>(List.of("pending@test.com", "accepted@test.com")));
+        when(geoOperations.position("ride:request", "pending@test.com", "accepted@test.com"))
+                .thenReturn(List.of(new Point(49.0, 50.0), new Point(49.1, 50.1)));
+        // 목록을 읽은 뒤 수락된 호출
+        when(callDetailStore.existAll(List.of("pending@test.com", "accepted@test.com"))).thenReturn(List.of(true, false));
+
+        rideService.rebuildCallIndex();
+
+        // 만료 정보가 없던 호출도 만료 대상으로 등록
+        verify(zSetOperations).addIfAbsent(eq("ride:request:expire"), argThat(expires -> expires.size() == 2));
+        verify(callGridIndex).upsert("pending@test.com", 50.0, 49.0);
+        verify(callGridIndex, never()).upsert(eq("accepted@test.com"), anyDouble(), anyDouble());
+        verify(callGridIndex).markReady();
+    }
+
+    @Test
+    void 호출_수락_테스트() {
         CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
-        String jsonData = "{\"passengerEmail\":\"user@email.com\", \"startLatitude\":50.0,\"startLongitude\":49.0,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
 
         RideCallRequestDto callDto =
                 new RideCallRequestDto("user@email.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
@@ -178,25 +311,74 @@ class RideServiceTest {
                 .driverStatus(DriverStatus.WAITING)
                 .build();
 
-        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(jsonData);
-        when(objectMapper.readValue(jsonData, RideCallRequestDto.class)).thenReturn(callDto);
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto).thenReturn(driverDto);
+        when(callDetailStore.claim("user@email.com")).thenReturn(callDto);
+        // 단일 키 모드 : 선점 스크립트가 Geo, 만료 정보까지 삭제
+        when(callDetailStore.removesGeoOnClaim()).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(userInfoCache.findUserInfoByEmail(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(userDto))
+                .thenReturn(CompletableFuture.completedFuture(driverDto));
         when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
+        when(rideRepository.save(any(Ride.class))).thenReturn(Ride.builder().id(7L).rideStatus(RideStatus.ACCEPT).build());
 
-        rideService.acceptCall(acceptDto);
+        RideAcceptDto result = rideService.acceptCall(acceptDto);
 
+        // 저장된 운행의 id로 이벤트 생성
+        assertEquals(7L, result.getRideId());
         verify(rideRepository, times(1)).save(any(Ride.class));
-        verify(redisTemplate, times(1)).delete("ride:detail:user@email.com");
-        verify(redisTemplate.opsForGeo(), times(1)).remove("ride:request", "user@email.com");
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, never()).opsForGeo();
+        verify(pendingCallWriter, never()).removeAll(anyList());
+        verify(pendingCallWriter, never()).saveAll(anyList(), any(Duration.class));
+        verify(callGridIndex, times(1)).remove("user@email.com");
+        verify(driverLocationService, times(1)).markUnavailable("driver@email.com");
+        verify(rideEventOutbox, times(1)).append(eq("ride-accept"), eq(7L), any(RideAcceptDto.class));
+        assertEquals(DriverStatus.RESERVATION, driver.getDriverStatus());
     }
 
     @Test
-    void 호출_수락_기사_없음_테스트() throws JsonProcessingException {
+    void 호출_수락_셀_단위_모드_Geo_정보_삭제_테스트() {
+        CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
+
+        RideCallRequestDto callDto =
+                new RideCallRequestDto("user@email.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
+
+        Driver driver = Driver.builder()
+                .userId(0L)
+                .driverStatus(DriverStatus.WAITING)
+                .build();
+
+        // 셀 단위 모드 : 선점 스크립트는 상세 정보만 삭제하므로 Geo, 만료 정보는 파이프라인으로 삭제
+        when(callDetailStore.claim("user@email.com")).thenReturn(callDto);
+        when(callDetailStore.removesGeoOnClaim()).thenReturn(false);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(userInfoCache.findUserInfoByEmail(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new UserDto(0L, "승객", "01012341234", "user@email.com")))
+                .thenReturn(CompletableFuture.completedFuture(new UserDto(1L, "기사", "01056785678", "driver@email.com")));
+        when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
+        when(rideRepository.save(any(Ride.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        rideService.acceptCall(acceptDto);
+
+        verify(pendingCallWriter, times(1)).removeAll(List.of(callDto));
+    }
+
+    @Test
+    void 호출_수락_선점_실패_테스트() {
+        CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
+
+        when(callDetailStore.claim("user@email.com")).thenReturn(null);
+
+        assertThrows(CustomBadRequestException.class, () -> rideService.acceptCall(acceptDto));
+
+        verifyNoInteractions(userInfoCache, driverRepository, rideRepository, transactionTemplate);
+    }
+
+    @Test
+    void 호출_수락_기사_없음_테스트() {
         CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
-        String jsonData = "{\"passengerEmail\":\"user@email.com\", \"startLatitude\":50.0,\"startLongitude\":49.0,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
 
         RideCallRequestDto callDto =
                 new RideCallRequestDto("user@email.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
@@ -204,20 +386,23 @@ class RideServiceTest {
         UserDto userDto = new UserDto(0L, "승객", "01012341234", "user@email.com");
         UserDto driverDto = new UserDto(1L, "기사", "01056785678", "driver@email.com");
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(jsonData);
-        when(objectMapper.readValue(jsonData, RideCallRequestDto.class)).thenReturn(callDto);
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto).thenReturn(driverDto);
+        when(callDetailStore.claim("user@email.com")).thenReturn(callDto);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userInfoCache.findUserInfoByEmail(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(userDto))
+                .thenReturn(CompletableFuture.completedFuture(driverDto));
         when(driverRepository.findByUserId(anyLong())).thenReturn(null);
 
         assertThrows(CustomBadRequestException.class, () -> rideService.acceptCall(acceptDto));
+
+        // 수락에 실패한 호출은 복구
+        verify(pendingCallWriter, times(1)).saveAll(List.of(callDto), Duration.ofSeconds(600));
+        verify(callGridIndex, times(1)).upsert("user@email.com", 50.0, 49.0);
     }
 
     @Test
-    void 호출_수락_기사_상태_대기중아님_테스트() throws JsonProcessingException {
+    void 호출_수락_기사_상태_대기중아님_테스트() {
         CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
-        String jsonData = "{\"passengerEmail\":\"user@email.com\", \"startLatitude\":50.0,\"startLongitude\":49.0,\"startLocation\":\"여기 어딘가\"" +
-                ",\"endLatitude\":100.0,\"endLongitude\":87.5,\"endLocation\":\"저기 어딘가\"";
 
         RideCallRequestDto callDto =
                 new RideCallRequestDto("user@email.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
@@ -231,15 +416,38 @@ class RideServiceTest {
                 .driverStatus(DriverStatus.OFFLINE)
                 .build();
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(jsonData);
-        when(objectMapper.readValue(jsonData, RideCallRequestDto.class)).thenReturn(callDto);
-        when(userServiceClient.getUserInfoByEmail(anyString())).thenReturn(userDto).thenReturn(driverDto);
+        when(callDetailStore.claim("user@email.com")).thenReturn(callDto);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userInfoCache.findUserInfoByEmail(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(userDto))
+                .thenReturn(CompletableFuture.completedFuture(driverDto));
         when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
 
         assertThrows(CustomBadRequestException.class, () -> rideService.acceptCall(acceptDto));
     }
 
+    @Test
+    void 호출_수락_회원_조회_시간_초과_테스트() {
+        CallAcceptRequestDto acceptDto = new CallAcceptRequestDto("user@email.com", "driver@email.com");
+
+        RideCallRequestDto callDto =
+                new RideCallRequestDto("user@email.com", 50.0, 49.0, "여기 어딘가", 100.0, 87.5, "저기 어딘가");
+
+        UserDto userDto = new UserDto(0L, "승객", "01012341234", "user@email.com");
+
+        when(callDetailStore.claim("user@email.com")).thenReturn(callDto);
+        when(userInfoCache.findUserInfoByEmail(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(userDto))
+                .thenReturn(new CompletableFuture<>()); // 기사 조회 응답 없음
+
+        assertThrows(CustomInternalException.class, () -> rideService.acceptCall(acceptDto));
+
+        // 제한 시간이 지나면 DB 작업 없이 호출 복구
+        verifyNoInteractions(transactionTemplate, driverRepository, rideRepository);
+        verify(pendingCallWriter, times(1)).saveAll(List.of(callDto), Duration.ofSeconds(600));
+        verify(callGridIndex, times(1)).upsert("user@email.com", 50.0, 49.0);
+    }
+
     @Test
     void 호출_취소_테스트() {
         Ride ride = Ride.builder()
@@ -247,6 +455,7 @@ class RideServiceTest {
                 .passengerId(2L)
                 .driverId(0L)
                 .rideStatus(RideStatus.ACCEPT)
+                .participants(participants)
                 .build();
 
         Driver driver = Driver.builder()
@@ -256,11 +465,19 @@ class RideServiceTest {
 
         when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
         when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(rideRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
 
         rideService.cancelRide(0L);
 
         assertEquals(RideStatus.CANCEL, ride.getRideStatus());
         assertEquals(DriverStatus.WAITING, driver.getDriverStatus());
+
+        // 수락 시 저장한 참여자 정보만 사용
+        verifyNoInteractions(userInfoCache);
+        verify(driverLocationService, times(1)).markWaiting("driver@email.com");
+        assertEquals(1, meterRegistry.get("ride.transition.connection-hold").tag("transition", "cancel").timer().count());
     }
 
     @Test
@@ -279,10 +496,41 @@ class RideServiceTest {
 
         when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
         when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         assertThrows(CustomBadRequestException.class, () -> rideService.cancelRide(0L));
     }
 
+    @Test
+    void 호출_취소_동시_변경_실패_테스트() {
+        Ride ride = Ride.builder()
+                .id(0L)
+                .passengerId(2L)
+                .driverId(0L)
+                .rideStatus(RideStatus.ACCEPT)
+                .participants(participants)
+                .version(0L)
+                .build();
+
+        Driver driver = Driver.builder()
+                .id(0L)
+                .driverStatus(DriverStatus.RESERVATION)
+                .build();
+
+        when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
+        when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // 읽은 뒤 다른 요청(운행 시작 등)이 먼저 상태를 변경
+        when(rideRepository.updateStatus(0L, RideStatus.ACCEPT, 0L, RideStatus.CANCEL)).thenReturn(0);
+
+        assertThrows(CustomBadRequestException.class, () -> rideService.cancelRide(0L));
+
+        assertEquals(RideStatus.ACCEPT, ride.getRideStatus());
+        verify(driverRepository, never()).updateStatus(any(), any(), any(), any());
+        verify(driverLocationService, never()).markWaiting(anyString());
+        verify(rideEventOutbox, never()).append(anyString(), any(), any());
+    }
+
     @Test
     void 운행_시작_테스트() {
         Ride ride = Ride.builder()
@@ -290,6 +538,7 @@ class RideServiceTest {
                 .passengerId(2L)
                 .driverId(0L)
                 .rideStatus(RideStatus.ACCEPT)
+                .participants(participants)
                 .build();
 
         Driver driver = Driver.builder()
@@ -299,11 +548,17 @@ class RideServiceTest {
 
         when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
         when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(rideRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
 
-        rideService.startRide(0L);
+        RideStartDto startDto = rideService.startRide(0L);
 
         assertEquals(RideStatus.DRIVING, ride.getRideStatus());
         assertEquals(DriverStatus.DRIVING, driver.getDriverStatus());
+        assertEquals("01012341234", startDto.getPassengerPhoneNumber());
+        assertEquals("기사", startDto.getDriverName());
+        verifyNoInteractions(userInfoCache);
     }
 
     @Test
@@ -313,6 +568,7 @@ class RideServiceTest {
                 .passengerId(2L)
                 .driverId(0L)
                 .rideStatus(RideStatus.DRIVING)
+                .participants(participants)
                 .build();
 
         Driver driver = Driver.builder()
@@ -325,6 +581,9 @@ class RideServiceTest {
 
         when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
         when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(rideRepository.completeRide(any(), any(), any())).thenReturn(1);
+        when(driverRepository.finishRide(any(), any())).thenReturn(1);
 
         rideService.completeRide(dto);
 
@@ -332,34 +591,102 @@ class RideServiceTest {
         assertEquals(RideStatus.COMPLETE, ride.getRideStatus());
         assertEquals(DriverStatus.WAITING, driver.getDriverStatus());
         assertEquals(6, driver.getTotalRides());
+        verifyNoInteractions(userInfoCache);
     }
 
     @Test
-    void 롤백_테스트() {
+    void 참여자_정보_없는_이전_운행_조회_테스트() {
         Ride ride = Ride.builder()
                 .id(0L)
                 .passengerId(2L)
                 .driverId(0L)
-                .rideStatus(RideStatus.DRIVING)
+                .rideStatus(RideStatus.ACCEPT)
                 .build();
 
         Driver driver = Driver.builder()
                 .id(0L)
                 .userId(1L)
-                .driverStatus(DriverStatus.DRIVING)
-                .totalRides(5)
+                .driverStatus(DriverStatus.RESERVATION)
                 .build();
 
         when(rideRepository.findById(anyLong())).thenReturn(Optional.of(ride));
-        when(driverRepository.findByUserId(anyLong())).thenReturn(driver);
+        when(driverRepository.findById(anyLong())).thenReturn(Optional.of(driver));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(rideRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(driverRepository.updateStatus(any(), any(), any(), any())).thenReturn(1);
+        when(userInfoCache.findUserInfoById(2L)).thenReturn(CompletableFuture.completedFuture(new UserDto(2L, "승객", "01012341234", "user@email.com")));
+        when(userInfoCache.findUserInfoById(1L)).thenReturn(CompletableFuture.completedFuture(new UserDto(1L, "기사", "01056785678", "driver@email.com")));
 
-        RollBackDto dto = new RollBackDto();
-        dto.setRideId(0L);
-        dto.setDriverUserId(1L);
+        RideCancelDto cancelDto = rideService.cancelRide(0L);
 
-        rideService.rollBackRide(dto);
+        // 트랜잭션 전에 조회한 정보는 운행에 저장
+        assertEquals("driver@email.com", cancelDto.getDriverEmail());
+        assertEquals("user@email.com", ride.getParticipants().getPassengerEmail());
+    }
 
-        assertEquals(DriverStatus.WAITING, driver.getDriverStatus());
-        verify(rideRepository, times(1)).delete(any(Ride.class));
+    @Test
+    void 회원_정보_변경_진행중_운행_갱신_테스트() {
+        Ride ride = Ride.builder()
+                .id(0L)
+                .passengerId(2L)
+                .driverId(0L)
+                .rideStatus(RideStatus.DRIVING)
+                .participants(participants)
+                .build();
+
+        when(rideRepository.findAllByPassengerIdAndRideStatusIn(eq(2L), anyCollection())).thenReturn(List.of(ride));
+        when(driverRepository.findByUserId(2L)).thenReturn(null);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // 이벤트에 담긴 회원 정보로 갱신 (user-service 조회 없음)
+        rideService.refreshParticipants(new UserChangedDto(2L, "user@email.com", "승객", "01099999999"));
+
+        assertEquals("01099999999", ride.getParticipants().getPassengerPhoneNumber());
+        assertEquals("01056785678", ride.getParticipants().getDriverPhoneNumber());
+        verifyNoInteractions(userInfoCache);
+    }
+
+    @Test
+    void 이전_버전_회원_정보_변경_이벤트_조회_후_갱신_테스트() {
+        Ride ride = Ride.builder()
+                .id(0L)
+                .passengerId(2L)
+                .driverId(0L)
+                .rideStatus(RideStatus.DRIVING)
+                .participants(participants)
+                .build();
+
+        when(rideRepository.findAllByPassengerIdAndRideStatusIn(eq(2L), anyCollection())).thenReturn(List.of(ride));
+        when(driverRepository.findByUserId(2L)).thenReturn(null);
+        when(userInfoCache.getUserInfoById(2L)).thenReturn(new UserDto(2L, "승객", "01099999999", "user@email.com"));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // 회원 정보가 없는 이전 버전 이벤트는 user-service 에서 조회
+        rideService.refreshParticipants(new UserChangedDto(2L, "user@email.com", null, null));
+
+        verify(userInfoCache, times(1)).invalidate(2L, null);
+        assertEquals("01099999999", ride.getParticipants().getPassengerPhoneNumber());
+        assertEquals("01056785678", ride.getParticipants().getDriverPhoneNumber());
+    }
+
+    @Test
+    void 커넥션을_받지_못한_트랜잭션_점유_시간_미기록_테스트() {
+        Ride ride = Ride.builder()
+                .id(0L)
+                .passengerId(2L)
+                .driverId(0L)
+                .rideStatus(RideStatus.DRIVING)
+                .participants(participants)
+                .build();
+
+        when(rideRepository.findAllByPassengerIdAndRideStatusIn(eq(2L), anyCollection())).thenReturn(List.of(ride));
+        when(driverRepository.findByUserId(2L)).thenReturn(null);
+        when(transactionTemplate.execute(any())).thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+        assertThrows(CannotCreateTransactionException.class,
+                () -> rideService.refreshParticipants(new UserChangedDto(2L, "user@email.com", "승객", "01099999999")));
+
+        // 커넥션 풀 대기 시간은 점유 시간에 포함하지 않음
+        assertNull(meterRegistry.find("ride.transition.connection-hold").timer());
     }
-}
\ No newline at end of file
+}
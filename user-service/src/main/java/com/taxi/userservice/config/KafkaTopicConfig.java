@@ -0,0 +1,25 @@
+package com.taxi.userservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${user.kafka.partitions:3}")
+    private int partitions;
+
+    @Value("${user.kafka.replication-factor:1}")
+    private short replicationFactor;
+
+    @Bean
+    public NewTopic userChangedTopic() {
+        return TopicBuilder.name("user-changed")
+                .partitions(partitions)
+                .replicas(replicationFactor)
+                .build();
+    }
+}
@@ -2,7 +2,9 @@ package com.taxi.userservice.config;
 
 import com.taxi.common.security.JwtTokenFilter;
 import com.taxi.common.security.JwtTokenUtil;
+import com.taxi.common.security.ServiceTokenFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -51,16 +53,22 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity httpSecurity,
+                                           @Value("${service.token:}") String serviceToken) throws Exception {
         httpSecurity
                 .authorizeHttpRequests((request) ->
                         request.requestMatchers("/api/user/register", "/api/user/login", "/api/auth/success").permitAll()
+                                // 서비스 간 내부 API는 서비스 토큰으로 인증된 요청만 허용 (회원 토큰으로는 호출 불가)
+                                .requestMatchers(ServiceTokenFilter.PATH_PREFIX + "**").hasAuthority(ServiceTokenFilter.ROLE)
                                 .anyRequest().authenticated())
                 .csrf(CsrfConfigurer::disable)
                 .httpBasic(HttpBasicConfigurer::disable)
                 .formLogin(FormLoginConfigurer::disable)
                 .sessionManagement((session) ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 서비스 토큰은 user-service 내부 API에서만 사용하므로 servlet filter로 따로 등록하지 않음 (bean 아님)
+                // service.token 설정이 없으면 시작 시 실패
+                .addFilterBefore(new ServiceTokenFilter(serviceToken), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
 
         return httpSecurity.build();
@@ -0,0 +1,44 @@
+package com.taxi.userservice.controller;
+
+import com.taxi.common.core.dto.UserDto;
+import com.taxi.common.core.dto.UserLookupRequestDto;
+import com.taxi.userservice.entity.User;
+import com.taxi.userservice.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 서비스 간 내부 API (ride-service 회원 조회)
+// 회원 토큰이 아닌 서비스 토큰으로 인증 (ServiceTokenFilter, ROLE_SERVICE)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/users")
+public class InternalUserController {
+
+    private final AuthService authService;
+
+    // 이메일로 회원 정보 반환
+    @GetMapping("/email/{email}")
+    public UserDto findUserByEmail(@PathVariable("email") String email) {
+        return toDto(authService.getUserByEmail(email));
+    }
+
+    // id로 회원 정보 반환
+    @GetMapping("/id/{id}")
+    public UserDto findUserById(@PathVariable("id") Long id) {
+        return toDto(authService.getUserById(id));
+    }
+
+    // 회원 정보 일괄 반환 (없는 회원은 제외)
+    @PostMapping
+    public List<UserDto> findUsers(@RequestBody UserLookupRequestDto dto) {
+        return authService.getUsers(dto.getIds(), dto.getEmails()).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    private UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getName(), user.getPhoneNumber(), user.getEmail());
+    }
+}
@@ -0,0 +1,42 @@
+package com.taxi.userservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taxi.common.core.dto.UserChangedDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String TOPIC = "user-changed";
+
+    // 회원 정보 변경 이벤트 producer (커밋된 변경만 발행)
+    // 발행에 실패해도 변경은 유지되며, 다른 서비스의 캐시는 TTL이 지나면 다시 조회
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void sendUserChanged(UserChangedDto dto) {
+        try {
+            String message = objectMapper.writeValueAsString(dto);
+
+            kafkaTemplate.send(TOPIC, String.valueOf(dto.getUserId()), message)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("회원 정보 변경 이벤트 발행 실패 (userId : {}) : {}", dto.getUserId(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("데이터 변환 중 내부적인 오류가 발생 : {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("회원 정보 변경 이벤트 발행 실패 (userId : {}) : {}", dto.getUserId(), e.getMessage());
+        }
+    }
+}
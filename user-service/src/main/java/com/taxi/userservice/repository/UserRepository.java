@@ -3,7 +3,12 @@ package com.taxi.userservice.repository;
 import com.taxi.userservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByEmail(String email);
     User findByPhoneNumber(String phoneNumber);
+    List<User> findAllByIdIn(Collection<Long> ids);
+    List<User> findAllByEmailIn(Collection<String> emails);
 }
\ No newline at end of file
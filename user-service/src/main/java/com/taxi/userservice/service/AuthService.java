@@ -16,7 +16,12 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -29,6 +34,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, String> redisTemplate;
 
+    private static final int MAX_LOOKUP_SIZE = 500; // 일괄 조회 최대 회원 수
+
     // 로그인
     public TokenDto login(LoginRequestDto dto) {
         User user = userRepository.findByEmail(dto.getEmail());
@@ -115,6 +122,28 @@ public class AuthService {
                 .orElseThrow(() -> new CustomBadRequestException("잘못된 USER ID 입니다."));
     }
 
+    // 회원 일괄 반환 (id, 이메일 각각 IN 조회 한 번), 없는 회원은 결과에서 제외
+    public List<User> getUsers(List<Long> ids, List<String> emails) {
+        List<Long> distinctIds = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<String> distinctEmails = emails == null ? List.of() : emails.stream().filter(Objects::nonNull).distinct().toList();
+
+        if (distinctIds.size() + distinctEmails.size() > MAX_LOOKUP_SIZE) {
+            throw new CustomBadRequestException("한 번에 조회할 수 있는 회원 수를 초과하였습니다.");
+        }
+
+        Map<Long, User> users = new LinkedHashMap<>();
+
+        if (!distinctIds.isEmpty()) {
+            userRepository.findAllByIdIn(distinctIds).forEach(user -> users.put(user.getId(), user));
+        }
+
+        if (!distinctEmails.isEmpty()) {
+            userRepository.findAllByEmailIn(distinctEmails).forEach(user -> users.putIfAbsent(user.getId(), user));
+        }
+
+        return new ArrayList<>(users.values());
+    }
+
     // AccessToken, RefreshToken 발급
     private TokenDto getAccessRefreshToken(String email, Role role) {
         String accessToken = jwtTokenUtil.generateAccessToken(email, role.name());
@@ -1,5 +1,6 @@
 package com.taxi.userservice.service;
 
+import com.taxi.common.core.dto.UserChangedDto;
 import com.taxi.common.core.exception.CustomAuthException;
 import com.taxi.common.core.exception.CustomBadRequestException;
 import com.taxi.userservice.dto.*;
@@ -9,6 +10,7 @@ import com.taxi.userservice.enums.Role;
 import com.taxi.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +24,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 일반 회원가입
     @Transactional
@@ -79,6 +82,9 @@ public class UserService {
         User user = getLoggedInUser();
 
         user.updatePhoneNumber(dto.getPhoneNumber());
+
+        // 커밋 후 다른 서비스의 회원 정보 캐시 삭제 (UserProducer)
+        eventPublisher.publishEvent(new UserChangedDto(user.getId(), user.getEmail(), user.getName(), user.getPhoneNumber()));
     }
 
     // 회원 비밀번호 확인
@@ -20,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -202,4 +204,28 @@ class AuthServiceTest {
 
         assertThrows(CustomAuthException.class, () -> authService.reIssueAccessToken(refreshToken));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 회원_일괄_조회_테스트() {
+        User user1 = User.builder().id(1L).email("test1@test.com").build();
+        User user2 = User.builder().id(2L).email("test2@test.com").build();
+
+        when(userRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(user1));
+        when(userRepository.findAllByEmailIn(List.of("test1@test.com", "test2@test.com"))).thenReturn(List.of(user1, user2));
+
+        List<User> users = authService.getUsers(List.of(1L, 1L), List.of("test1@test.com", "test2@test.com"));
+
+        // id, 이메일 각각 한 번씩 조회하고 중복 회원은 한 번만 반환
+        assertEquals(List.of(user1, user2), users);
+        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void 회원_일괄_조회_최대_개수_초과_테스트() {
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        assertThrows(CustomBadRequestException.class, () -> authService.getUsers(ids, List.of()));
+        verifyNoInteractions(userRepository);
+    }
+}
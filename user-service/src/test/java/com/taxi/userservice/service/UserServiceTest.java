@@ -1,5 +1,6 @@
 package com.taxi.userservice.service;
 
+import com.taxi.common.core.dto.UserChangedDto;
 import com.taxi.common.core.exception.CustomBadRequestException;
 import com.taxi.userservice.dto.*;
 import com.taxi.userservice.entity.User;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -35,6 +37,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void 일반_회원가입_테스트() {
         UserRegisterDto dto = new UserRegisterDto();
@@ -169,6 +174,9 @@ class UserServiceTest {
         userService.updatePhoneNumber(dto);
 
         assertEquals(dto.getPhoneNumber(), user.getPhoneNumber());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof UserChangedDto changed && changed.getEmail().equals(user.getEmail())
+                        && changed.getPhoneNumber().equals(dto.getPhoneNumber())));
     }
 
     @Test